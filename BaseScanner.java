@@ -0,0 +1,560 @@
+import java.io.*;
+import java.nio.*;
+import java_cup.runtime.*;
+
+/***
+ * The BaseScanner class is a hand-written scanner for the base language,
+ * used instead of Yylex (the scanner JLex makes from base.jlex) with the
+ * --scanner=hand option of P5.  It gives the same tokens, with the same
+ * line and character numbers and values, and reports the same errors and
+ * warnings, as Yylex; ScannerDiff checks that.
+ *
+ * It scans a buffer of bytes (each byte being one char, as in ISO-8859-1;
+ * base programs are ASCII), which can be a memory-mapped file, instead of
+ * reading chars through a Reader, and it makes no Strings except for the
+ * values of identifiers (only the first time each is seen), string
+ * literals and illegal characters.
+ *
+ * To match Yylex exactly, it follows the rules of base.jlex, and of JLex:
+ *   - the longest match wins, and of rules matching the same text, the
+ *     first one in base.jlex;
+ *   - line numbers count '\r', '\n' and "\r\n" as line ends, but only '\n'
+ *     starts a new line as far as character numbers go;
+ *   - a '\r' can only be in a comment or a string literal; anywhere else
+ *     it is unmatched input, which is reported by throwing an Error;
+ *   - character numbers are not moved on by comments, or by unterminated
+ *     string literals.
+ ***/
+class BaseScanner implements Scanner {
+    // the keywords, and their tokens
+    private static final String[] KEYWORDS =
+        {"void", "logical", "integer", "True", "False", "tuple", "read",
+         "write", "if", "else", "while", "return"};
+    private static final int[] KEYWORD_TOKENS =
+        {sym.VOID, sym.LOGICAL, sym.INTEGER, sym.TRUE, sym.FALSE, sym.TUPLE,
+         sym.READ, sym.WRITE, sym.IF, sym.ELSE, sym.WHILE, sym.RETURN};
+
+    // the token of each char that is a token by itself, or -1
+    private static final int[] SINGLE = new int[128];
+    static {
+        java.util.Arrays.fill(SINGLE, -1);
+        SINGLE['{'] = sym.LCURLY;
+        SINGLE['}'] = sym.RCURLY;
+        SINGLE['('] = sym.LPAREN;
+        SINGLE[')'] = sym.RPAREN;
+        SINGLE['['] = sym.LSQBRACKET;
+        SINGLE[']'] = sym.RSQBRACKET;
+        SINGLE[':'] = sym.COLON;
+        SINGLE[','] = sym.COMMA;
+        SINGLE['.'] = sym.DOT;
+        SINGLE['='] = sym.ASSIGN;
+        SINGLE['~'] = sym.NOT;
+        SINGLE['&'] = sym.AND;
+        SINGLE['|'] = sym.OR;
+        SINGLE['+'] = sym.PLUS;
+        SINGLE['-'] = sym.MINUS;
+        SINGLE['*'] = sym.TIMES;
+        SINGLE['/'] = sym.DIVIDE;
+        SINGLE['<'] = sym.LESS;
+        SINGLE['>'] = sym.GREATER;
+    }
+
+    // the string-literal rules of base.jlex, in order
+    private static final int STR_GOOD = 1;          // "..."
+    private static final int STR_UNTERM = 2;        // "...
+    private static final int STR_BAD = 3;           // "..\q.."
+    private static final int STR_UNTERM_BAD = 4;    // "..\q..
+
+    private ByteBuffer in;
+    private int begin;          // of the input
+    private int pos;            // of the next byte to scan
+    private int end;            // of the input
+    private int line = 1;       // line number at pos
+    private int charNum = 1;    // character number at pos
+
+    // the identifiers seen so far
+    private NameTable names = new NameTable();
+
+    // the token found by scan
+    private int tokLine;
+    private int tokCharNum;
+    private int tokStart;       // where its text is in the input
+    private int tokLength;
+    private int tokValue;       // an ID's id, or an INTLITERAL's value
+
+    /***
+     * A scanner for the bytes of in, from its position to its limit.
+     ***/
+    public BaseScanner(ByteBuffer in) {
+        this(in, 1);
+    }
+
+    /***
+     * Same as above, where the bytes of in start at the beginning of the
+     * given line (e.g. for part of a bigger input; see ParallelTokenizer).
+     ***/
+    public BaseScanner(ByteBuffer in, int line) {
+        this.in = in;
+        begin = in.position();
+        pos = begin;
+        end = in.limit();
+        this.line = line;
+    }
+
+    /***
+     * A scanner for everything that can be read from reader.  If it is a
+     * MappedReader, its bytes are scanned where they are.
+     ***/
+    public BaseScanner(Reader reader) throws IOException {
+        this(bytesOf(reader));
+    }
+
+    static ByteBuffer bytesOf(Reader reader) throws IOException {
+        if (reader instanceof MappedReader) {
+            return ((MappedReader)reader).bytes();
+        }
+        char[] chars = new char[8192];
+        byte[] bytes = new byte[8192];
+        int length = 0;
+        int n;
+        while ((n = reader.read(chars)) > 0) {
+            if (length + n > bytes.length) {
+                bytes = java.util.Arrays.copyOf(bytes,
+                            Math.max(length + n, bytes.length * 2));
+            }
+            for (int i = 0; i < n; i++) {
+                bytes[length++] = (byte)chars[i];
+            }
+        }
+        return ByteBuffer.wrap(bytes, 0, length);
+    }
+
+    /***
+     * Return the next token (EOF at the end of the input).
+     ***/
+    public Symbol next_token() {
+        int kind = scan();
+        return symbol(kind, tokLine, tokCharNum, tokValue, tokStart,
+                      tokLength);
+    }
+
+    /***
+     * Scan all of the (rest of the) input into a TokenBuffer.  The
+     * messages reported on the way are kept in the buffer, to be reported
+     * as the tokens are read from it, as is unmatched input.
+     ***/
+    public TokenBuffer tokenize() {
+        TokenBuffer tokens = tokenizeQuietly();
+        if (Stats.enabled) {
+            Stats.count(Stats.TOKENS, tokens.numTokens());
+        }
+        return tokens;
+    }
+
+    // tokenize, without counting the tokens
+    TokenBuffer tokenizeQuietly() {
+        TokenBuffer tokens = new TokenBuffer(this);
+        int kind;
+        ErrMsg.startCapture();
+        try {
+            do {
+                kind = scan();
+                tokens.add(kind, tokLine, tokCharNum, tokStart, tokLength,
+                           tokValue);
+                if (ErrMsg.getNumMsgs() > 0) {
+                    tokens.addMessages(tokens.size() - 1, ErrMsg.endCapture());
+                    ErrMsg.startCapture();
+                }
+            } while (kind != sym.EOF);
+        } catch (Error ex) {  // unmatched input
+            tokens.fail(ex);
+        }
+        boolean moreMsgs = ErrMsg.getNumMsgs() > 0;  // before the failure
+        ErrMsg msgs = ErrMsg.endCapture();
+        if (moreMsgs) {
+            tokens.addMessages(tokens.size(), msgs);
+        }
+        return tokens;
+    }
+
+    /***
+     * Return the Symbol for a token that scan found (see the tok fields).
+     ***/
+    Symbol symbol(int kind, int line, int charNum, int value, int start,
+                  int length) {
+        switch (kind) {
+        case sym.EOF:
+            return new Symbol(sym.EOF);
+        case sym.ID:
+            return new Symbol(sym.ID,
+                       new IdTokenVal(line, charNum, names.name(value), value));
+        case sym.INTLITERAL:
+            return new Symbol(sym.INTLITERAL,
+                              new IntLitTokenVal(line, charNum, value));
+        case sym.STRLITERAL:
+            return new Symbol(sym.STRLITERAL,
+                              new StrLitTokenVal(line, charNum,
+                                        new SourceSpan(in, start, length)));
+        default:
+            return new Symbol(kind, new TokenVal(line, charNum));
+        }
+    }
+
+    /***
+     * Return the names of the identifiers scanned (the ids of ID tokens
+     * are ids in it).
+     ***/
+    public NameTable names() {
+        return names;
+    }
+
+    /***
+     * Find the next token, setting the tok fields, and return its kind
+     * (EOF at the end of the input).
+     ***/
+    private int scan() {
+        while (pos < end) {
+            int start = pos;
+            int c = in.get(pos) & 0xff;
+            tokStart = start;
+            tokLine = line;
+            tokCharNum = charNum;
+            tokValue = 0;
+
+            if (isLetter(c) || c == '_') {
+                int kind = identifier(start);
+                tokLength = pos - start;
+                charNum += tokLength;
+                return kind;
+            }
+
+            if (isDigit(c)) {
+                int kind = intLiteral(start);
+                tokLength = pos - start;
+                charNum += tokLength;
+                return kind;
+            }
+
+            switch (c) {
+            case '\n':
+                pos++;
+                if (start == begin || in.get(start - 1) != '\r') {
+                    line++;  // "\r\n" is one line end
+                }
+                charNum = 1;
+                continue;
+
+            case ' ':
+            case '\t':
+                do {
+                    pos++;
+                } while (pos < end && (in.get(pos) == ' ' ||
+                                       in.get(pos) == '\t'));
+                charNum += pos - start;
+                continue;
+
+            case '$':
+                skipComment();
+                continue;
+
+            case '!':
+                if (pos + 1 < end && in.get(pos + 1) == '!') {
+                    skipComment();
+                    continue;
+                }
+                break;  // illegal
+
+            case '"':
+                if (stringLiteral(start)) {
+                    tokLength = pos - start;
+                    return sym.STRLITERAL;
+                }
+                continue;
+
+            case '>':
+                if (next('>')) {
+                    return twoChar(sym.INPUTOP);
+                }
+                if (next('=')) {
+                    return twoChar(sym.GREATEREQ);
+                }
+                break;
+
+            case '<':
+                if (next('<')) {
+                    return twoChar(sym.OUTPUTOP);
+                }
+                if (next('=')) {
+                    return twoChar(sym.LESSEQ);
+                }
+                break;
+
+            case '=':
+                if (next('=')) {
+                    return twoChar(sym.EQUALS);
+                }
+                break;
+
+            case '~':
+                if (next('=')) {
+                    return twoChar(sym.NOTEQUALS);
+                }
+                break;
+
+            case '+':
+                if (next('+')) {
+                    return twoChar(sym.PLUSPLUS);
+                }
+                break;
+
+            case '-':
+                if (next('-')) {
+                    return twoChar(sym.MINUSMINUS);
+                }
+                break;
+            }
+
+            pos++;
+            if (c < 128 && SINGLE[c] >= 0) {
+                tokLength = 1;
+                charNum++;
+                return SINGLE[c];
+            }
+
+            if (c == '\r') {  // not even an illegal character, in base.jlex
+                throw new Error("Lexical Error: Unmatched Input.");
+            }
+            ErrMsg.fatal(line, charNum,
+                         "illegal character ignored: " + (char)c);
+            charNum++;
+        }
+        tokStart = pos;
+        tokLength = 0;
+        tokLine = line;
+        tokCharNum = charNum;
+        return sym.EOF;
+    }
+
+    // true if the byte after the one at pos is c
+    private boolean next(int c) {
+        return pos + 1 < end && in.get(pos + 1) == c;
+    }
+
+    // scan the two-char token (of the given kind) at pos
+    private int twoChar(int kind) {
+        pos += 2;
+        charNum += 2;
+        tokLength = 2;
+        return kind;
+    }
+
+    // skip a comment, up to the end of the line
+    private void skipComment() {
+        while (pos < end && in.get(pos) != '\n') {
+            if (in.get(pos) == '\r') {
+                line++;
+            }
+            pos++;
+        }
+    }
+
+    // scan the identifier or keyword at start, and return its kind
+    private int identifier(int start) {
+        pos++;
+        while (pos < end) {
+            int c = in.get(pos) & 0xff;
+            if (!isLetter(c) && !isDigit(c) && c != '_') {
+                break;
+            }
+            pos++;
+        }
+        int length = pos - start;
+
+        for (int k = 0; k < KEYWORDS.length; k++) {
+            if (matches(KEYWORDS[k], start, length)) {
+                return KEYWORD_TOKENS[k];
+            }
+        }
+
+        tokValue = names.intern(in, start, length);
+        return sym.ID;
+    }
+
+    // scan the integer literal at start
+    private int intLiteral(int start) {
+        long val = 0;
+        while (pos < end && isDigit(in.get(pos))) {
+            if (val <= Integer.MAX_VALUE) {
+                val = 10 * val + (in.get(pos) - '0');
+            }
+            pos++;
+        }
+
+        if (val > Integer.MAX_VALUE) {
+            ErrMsg.warn(line, charNum,
+                        "integer literal too large - using max value");
+            tokValue = Integer.MAX_VALUE;
+        } else {
+            tokValue = (int)val;
+        }
+        return sym.INTLITERAL;
+    }
+
+    /***
+     * Scan the string literal (good or bad) at start, and return true if
+     * it is good (otherwise, report it).
+     *
+     * The four string rules of base.jlex are matched at the same time, as
+     * a set of NFA states, to find the longest match (and the first rule
+     * with that match).  With (A|\E)* being the body of a good string (no
+     * newline, quote or backslash, or an escape), the states are:
+     *   IN    in the body;
+     *   ESC   just after a backslash in the body;
+     *   BAD   in the rest of a terminated string after a bad escape;
+     *   TAIL  in the body after a bad escape, in an unterminated string;
+     *   TESC  just after a backslash there.
+     ***/
+    private boolean stringLiteral(int start) {
+        final int IN = 1, ESC = 2, BAD = 4, TAIL = 8, TESC = 16;
+
+        int states = IN;
+        int rule = STR_UNTERM;      // the rule of the longest match so far
+        int matchEnd = start + 1;   // and where it ends
+        int p = start + 1;
+        while (states != 0 && p < end) {
+            int c = in.get(p) & 0xff;
+            p++;
+            if (c == '\n') {
+                break;
+            }
+
+            int next = 0;
+            boolean closedGood = false;  // a good string just ended
+            boolean closedBad = false;   // a bad one just ended
+            if ((states & IN) != 0) {
+                if (c == '"') {
+                    closedGood = true;
+                } else if (c == '\\') {
+                    next |= ESC;
+                } else {
+                    next |= IN;
+                }
+            }
+            if ((states & ESC) != 0) {
+                if (isEscapedChar(c)) {
+                    next |= IN;
+                }
+                if (isBadEscapedChar(c)) {
+                    next |= BAD | TAIL;
+                }
+            }
+            if ((states & BAD) != 0) {
+                if (c == '"') {
+                    closedBad = true;
+                } else {
+                    next |= BAD;
+                }
+            }
+            if ((states & TAIL) != 0) {
+                if (c == '\\') {
+                    next |= TESC;
+                } else if (c != '"') {
+                    next |= TAIL;
+                }
+            }
+            if ((states & TESC) != 0 && isEscapedChar(c)) {
+                next |= TAIL;
+            }
+            states = next;
+
+            // the first rule that matches up to here, if any
+            int accept = 0;
+            if (closedGood) {
+                accept = STR_GOOD;
+            } else if ((states & IN) != 0) {
+                accept = STR_UNTERM;
+            } else if (closedBad) {
+                accept = STR_BAD;
+            } else if ((states & (ESC | TAIL | TESC)) != 0) {
+                accept = STR_UNTERM_BAD;
+            }
+            if (accept != 0) {
+                rule = accept;
+                matchEnd = p;
+            }
+        }
+
+        int length = matchEnd - start;
+        switch (rule) {
+        case STR_GOOD:
+            charNum += length;
+            break;
+        case STR_UNTERM:
+            ErrMsg.fatal(line, charNum,
+                         "unterminated string literal ignored");
+            break;
+        case STR_BAD:
+            ErrMsg.fatal(line, charNum,
+                         "string literal with bad escaped character ignored");
+            charNum += length;
+            break;
+        case STR_UNTERM_BAD:
+            ErrMsg.fatal(line, charNum,
+             "unterminated string literal with bad escaped character ignored");
+            break;
+        }
+
+        // the literal can hold '\r's, which end lines
+        for (int i = start; i < matchEnd; i++) {
+            if (in.get(i) == '\r') {
+                line++;
+            }
+        }
+        pos = matchEnd;
+        return rule == STR_GOOD;
+    }
+
+    /***
+     * Return the given bytes of the input, as a String.
+     ***/
+    String text(int start, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char)(in.get(start + i) & 0xff);
+        }
+        return new String(chars);
+    }
+
+    // true if the given bytes of the input are the chars of s
+    private boolean matches(String s, int start, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (in.get(start + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // ESCAPEDCHAR in base.jlex
+    private static boolean isEscapedChar(int c) {
+        return c == 'n' || c == 's' || c == 't' || c == '\'' || c == '"' ||
+               c == '\\';
+    }
+
+    // NOTNEWLINEORESCAPEDCHAR in base.jlex (the newline is already out)
+    private static boolean isBadEscapedChar(int c) {
+        return c != 'n' && c != 't' && c != '\'' && c != '"' && c != '?' &&
+               c != '\\';
+    }
+}
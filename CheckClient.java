@@ -0,0 +1,91 @@
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+
+/****
+ * Thin client for CheckServer (P5 --server=PORT).
+ *
+ * Command-line arguments (like P5's, after the port):
+ * 1. the port the server is listening on
+ * 2. the file to be checked
+ * 3. (optional) the output file into which the program should be unparsed
+ *
+ * They may be preceded by
+ *   -repeat N   send the request N times (the later ones show the latency
+ *               of checks on a warmed-up server)
+ *
+ * The server's messages are printed to System.err, and the summary and the
+ * time each request took to System.out.
+ ****/
+
+public class CheckClient {
+    public static void main(String[] args) throws IOException {
+        int repeat = 1;
+        int argNum = 0;
+        if (args.length > 1 && args[0].equals("-repeat")) {
+            repeat = Integer.parseInt(args[1]);
+            argNum = 2;
+        }
+        if (args.length - argNum != 2 && args.length - argNum != 3) {
+            System.err.println("please supply the server's port, the name " +
+                               "of the file to be checked, and optionally " +
+                               "the name of the file for the unparsed " +
+                               "version");
+            System.exit(-1);
+        }
+        int port = Integer.parseInt(args[argNum]);
+        String inFileName = new File(args[argNum + 1]).getAbsolutePath();
+        String outFileName = (args.length - argNum == 3) ? args[argNum + 2]
+                                                         : null;
+
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setTcpNoDelay(true);
+        DataInputStream in = new DataInputStream(
+            new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(socket.getOutputStream()));
+
+        String summary = null;
+        for (int k = 0; k < repeat; k++) {
+            long start = System.nanoTime();
+            out.writeUTF(inFileName);
+            out.writeBoolean(outFileName != null);
+            out.flush();
+
+            summary = in.readUTF();
+            byte[] msgs = readBytes(in);
+            byte[] unparsed = readBytes(in);
+            long elapsed = System.nanoTime() - start;
+
+            System.err.print(new String(msgs, StandardCharsets.UTF_8));
+            System.out.println(summary);
+            if (unparsed != null) {
+                OutputStream outFile = new FileOutputStream(outFileName);
+                try {
+                    outFile.write(unparsed);
+                } finally {
+                    outFile.close();
+                }
+            }
+            System.out.printf("request took %.3f ms%n", elapsed / 1e6);
+        }
+        socket.close();
+
+        if (!summary.equals("program parsed correctly")) {
+            System.exit(-1);
+        }
+    }
+
+    /***
+     * Read a length and that many bytes; return null for a length of -1.
+     ***/
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
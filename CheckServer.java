@@ -0,0 +1,122 @@
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+
+/****
+ * CheckServer answers check requests (from CheckClient) on a port of the
+ * loopback interface.  It runs until it is killed, so a check does not
+ * pay for starting a JVM and for loading and warming up the parser and
+ * scanner classes.
+ *
+ * A connection may carry any number of requests.  Each request is
+ *     UTF      the name of the file to check
+ *     boolean  whether to send back the unparsed program
+ * and the reply to it is
+ *     UTF      a summary (as for batch mode: "program parsed correctly" if
+ *              the file could be parsed)
+ *     int, bytes   the error and warning messages (in UTF-8)
+ *     int, bytes   the unparsed program (in UTF-8); the length is -1 if it
+ *                  was not asked for, and 0 if there were errors
+ ****/
+
+public class CheckServer {
+    public CheckServer(P5 checker, int port) {
+        myChecker = checker;
+        myPort = port;
+    }
+
+    /***
+     * Accept connections forever, handling each one on its own thread.
+     ***/
+    public void run() throws IOException {
+        ServerSocket server =
+            new ServerSocket(myPort, 50, InetAddress.getLoopbackAddress());
+        System.out.println("listening on " + server.getLocalSocketAddress());
+        ExecutorService executor = Executors.newCachedThreadPool();
+        while (true) {
+            final Socket socket = server.accept();
+            executor.execute(new Runnable() {
+                public void run() {
+                    serve(socket);
+                }
+            });
+        }
+    }
+
+    /***
+     * Answer the requests on one connection until the client closes it.
+     ***/
+    private void serve(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(socket.getOutputStream()));
+            while (true) {
+                String fileName;
+                try {
+                    fileName = in.readUTF();
+                } catch (EOFException ex) {
+                    break;  // client is done
+                }
+                boolean wantUnparse = in.readBoolean();
+                answer(fileName, wantUnparse, out);
+                out.flush();
+            }
+        } catch (IOException ex) {
+            System.err.println("connection failed: " + ex);
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException ex) {
+            }
+        }
+    }
+
+    /***
+     * Check one file and send the reply for it.
+     ***/
+    private void answer(String fileName, boolean wantUnparse,
+                        DataOutputStream out) throws IOException {
+        StringWriter unparsed = new StringWriter();
+        String summary;
+        ErrMsg msgs;
+        ErrMsg.startCapture();
+        try {
+            Reader inFile = myChecker.openInput(fileName);
+            try {
+                PrintWriter outFile = new UnparseWriter(unparsed);
+                summary = myChecker.check(inFile, outFile);
+                outFile.flush();
+            } finally {
+                inFile.close();
+            }
+        } catch (FileNotFoundException ex) {
+            summary = "file " + fileName + " not found";
+        } catch (IOException ex) {
+            summary = ex.getMessage();
+        } finally {
+            msgs = ErrMsg.endCapture();
+        }
+
+        out.writeUTF(summary);
+        writeBytes(out, msgs.toString());
+        if (wantUnparse) {
+            writeBytes(out, unparsed.toString());
+        } else {
+            out.writeInt(-1);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, String str)
+        throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private P5 myChecker;
+    private int myPort;
+}
@@ -2,9 +2,32 @@
  * ErrMsg
  *
  * This class is used to generate warning and fatal error messages.
+ *
+ * The messages and the err flag belong to the current thread, so several
+ * programs can be processed at once on different threads.  A thread's
+ * messages are printed to System.err unless it is capturing them (see
+ * startCapture).
  */
 class ErrMsg {
-    private static boolean err = false;
+    // the messages and err flag for each thread; captures can be nested
+    private static final ThreadLocal<ErrMsg> current =
+        new ThreadLocal<ErrMsg>() {
+            protected ErrMsg initialValue() {
+                return new ErrMsg(false, null);
+            }
+        };
+
+    private boolean err = false;
+    private int numMsgs = 0;     // errors and warnings reported
+    private StringBuilder msgs;  // null if messages are printed
+    private ErrMsg outer;        // the capture this one is nested in, if any
+
+    private ErrMsg(boolean capture, ErrMsg outer) {
+        if (capture) {
+            msgs = new StringBuilder();
+        }
+        this.outer = outer;
+    }
 
     /**
      * Generates a fatal error message.
@@ -13,8 +36,9 @@ class ErrMsg {
      * @param msg associated message for error
      */
     static void fatal(int lineNum, int charNum, String msg) {
-        err = true;
-        System.err.println(lineNum + ":" + charNum + " ****ERROR**** " + msg);
+        ErrMsg errMsg = current.get();
+        errMsg.err = true;
+        errMsg.report(lineNum + ":" + charNum + " ****ERROR**** " + msg);
     }
 
     /**
@@ -24,13 +48,95 @@ class ErrMsg {
      * @param msg associated message for warning
      */
     static void warn(int lineNum, int charNum, String msg) {
-        System.err.println(lineNum + ":" + charNum + " ****WARNING**** " + msg);
+        current.get().report(lineNum + ":" + charNum + " ****WARNING**** " +
+                             msg);
     }
 
     /**
      * Returns the err flag.
      */
     static boolean getErr() {
+        return current.get().err;
+    }
+
+    /**
+     * Returns the number of errors and warnings reported so far (in the
+     * current capture, if any).
+     */
+    static int getNumMsgs() {
+        return current.get().numMsgs;
+    }
+
+    /**
+     * Starts collecting the messages reported by the current thread instead
+     * of printing them.  Until the matching endCapture, the err flag starts
+     * out false and only reflects errors reported during the capture.
+     */
+    static void startCapture() {
+        current.set(new ErrMsg(true, current.get()));
+    }
+
+    /**
+     * Like startCapture, but adds to the messages (and err flag) of an
+     * earlier capture, returned by endCapture, instead of starting afresh.
+     * @param captured the capture to continue
+     */
+    static void resumeCapture(ErrMsg captured) {
+        captured.outer = current.get();
+        current.set(captured);
+    }
+
+    /**
+     * Stops collecting messages for the current thread and returns what was
+     * collected since the matching startCapture.
+     */
+    static ErrMsg endCapture() {
+        ErrMsg captured = current.get();
+        if (captured.outer == null) {
+            throw new IllegalStateException("endCapture without startCapture");
+        }
+        current.set(captured.outer);
+        captured.outer = null;
+        return captured;
+    }
+
+    /**
+     * Reports messages returned by endCapture (possibly on another thread)
+     * as if they had been reported by the current thread.
+     * @param captured the collected messages
+     */
+    static void replay(ErrMsg captured) {
+        ErrMsg errMsg = current.get();
+        errMsg.err |= captured.err;
+        errMsg.numMsgs += captured.numMsgs;
+        if (errMsg.msgs != null) {
+            errMsg.msgs.append(captured.msgs);
+        } else {
+            System.err.print(captured.msgs);
+        }
+    }
+
+    /**
+     * Returns true if a fatal error was reported during this capture.
+     */
+    boolean hadErr() {
         return err;
     }
+
+    /**
+     * Returns the messages collected during this capture, in the form they
+     * would have been printed.
+     */
+    public String toString() {
+        return msgs.toString();
+    }
+
+    private void report(String msg) {
+        numMsgs++;
+        if (msgs != null) {
+            msgs.append(msg).append(System.lineSeparator());
+        } else {
+            System.err.println(msg);
+        }
+    }
 }
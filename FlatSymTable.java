@@ -0,0 +1,159 @@
+import java.util.*;
+
+/***
+ * The FlatSymTable class is an alternative SymTable implementation that
+ * keeps all scopes in a single array, indexed by the ids of the names.
+ *
+ * Each id maps to a stack of bindings (innermost first), so lookupGlobal
+ * is one array access no matter how deeply scopes are nested.  Every scope
+ * keeps an undo log of the ids it declared; removeScope pops those
+ * bindings again instead of throwing away a per-scope table.
+ ***/
+public class FlatSymTable extends SymTable {
+    // one binding of a name; next is the binding it shadows (if any)
+    private static class Binding {
+        Sym sym;
+        int depth;
+        Binding next;
+
+        Binding(Sym sym, int depth, Binding next) {
+            this.sym = sym;
+            this.depth = depth;
+            this.next = next;
+        }
+    }
+
+    private Binding[] heads;    // innermost binding for each id
+
+    private int[] log;          // ids declared, in order
+    private int logSize;
+    private int[] scopeStart;   // for each open scope, where its log starts
+    private int depth;          // index of the innermost scope (-1 if none)
+
+    public FlatSymTable() {
+        heads = new Binding[64];
+        log = new int[64];
+        scopeStart = new int[16];
+        depth = 0;
+        scopeStart[0] = 0;
+    }
+
+    public void addDecl(int id, Sym sym)
+    throws DuplicateSymNameException, EmptySymTableException {
+        if (id < 0 || sym == null)
+            throw new IllegalArgumentException();
+
+        if (depth < 0)
+            throw new EmptySymTableException();
+
+        if (id >= heads.length)
+            heads = Arrays.copyOf(heads, Math.max(id + 1, heads.length * 2));
+        Binding head = heads[id];
+        if (head != null && head.depth == depth)
+            throw new DuplicateSymNameException();
+
+        heads[id] = new Binding(sym, depth, head);
+        if (logSize == log.length)
+            log = Arrays.copyOf(log, logSize * 2);
+        log[logSize++] = id;
+        place(sym, depth);
+    }
+
+    public Sym declare(int id, Sym sym) {
+        if (id < 0 || sym == null)
+            throw new IllegalArgumentException();
+
+        if (depth < 0)
+            throw new IllegalStateException("declare in an empty SymTable");
+
+        if (Stats.enabled) {
+            Stats.count(Stats.LOOKUPS);
+            Stats.count(Stats.PROBES);
+        }
+        if (id >= heads.length)
+            heads = Arrays.copyOf(heads, Math.max(id + 1, heads.length * 2));
+        Binding head = heads[id];
+        if (head != null && head.depth == depth)
+            return head.sym;
+
+        heads[id] = new Binding(sym, depth, head);
+        if (logSize == log.length)
+            log = Arrays.copyOf(log, logSize * 2);
+        log[logSize++] = id;
+        place(sym, depth);
+        return null;
+    }
+
+    public void addScope() {
+        if (Stats.enabled) Stats.count(Stats.SCOPES);
+        depth++;
+        if (depth == scopeStart.length)
+            scopeStart = Arrays.copyOf(scopeStart, depth * 2);
+        scopeStart[depth] = logSize;
+        openFrameScope(depth);
+    }
+
+    public Sym lookupLocal(int id)
+    throws EmptySymTableException {
+        if (depth < 0)
+            throw new EmptySymTableException();
+
+        if (Stats.enabled) {
+            Stats.count(Stats.LOOKUPS);
+            Stats.count(Stats.PROBES);
+        }
+        if (id >= heads.length)
+            return null;
+        Binding head = heads[id];
+        if (head == null || head.depth != depth)
+            return null;
+        return head.sym;
+    }
+
+    public Sym lookupGlobal(int id)
+    throws EmptySymTableException {
+        if (depth < 0)
+            throw new EmptySymTableException();
+
+        if (Stats.enabled) {
+            Stats.count(Stats.LOOKUPS);
+            Stats.count(Stats.PROBES);
+        }
+        if (id >= heads.length || heads[id] == null)
+            return null;
+        return heads[id].sym;
+    }
+
+    public void removeScope()
+    throws EmptySymTableException {
+        if (depth < 0)
+            throw new EmptySymTableException();
+
+        // replay this scope's part of the log backwards
+        int start = scopeStart[depth];
+        while (logSize > start) {
+            int id = log[--logSize];
+            heads[id] = heads[id].next;
+        }
+        closeFrameScope(depth);
+        depth--;
+    }
+
+    public void print(NameTable names) {
+        System.out.print("\n++++ SYMBOL TABLE\n");
+        for (int d = depth; d >= 0; d--) {
+            Map<String, Sym> symTab = new HashMap<String, Sym>();
+            int end = (d == depth) ? logSize : scopeStart[d + 1];
+            for (int i = scopeStart[d]; i < end; i++) {
+                int id = log[i];
+                Binding b = heads[id];
+                while (b.depth != d) {
+                    b = b.next;
+                }
+                symTab.put(names.name(id), b.sym);
+            }
+            System.out.println(symTab.toString());
+        }
+        System.out.println("\n++++ END TABLE");
+    }
+}
@@ -0,0 +1,569 @@
+import java.io.*;
+import java.util.*;
+
+/****
+ * Generator writes synthetic base programs, for benchmarks and stress
+ * tests of the compiler.  Only constructs accepted by base.cup are used, and
+ * unless errors are asked for, the programs have no name or type errors.
+ *
+ * The output is written as it is generated, so programs of any size can be
+ * made without holding them in memory, and the same options (including the
+ * seed) always give the same program.
+ *
+ * Command-line arguments: any of the options below, then (optionally) the
+ * output file; by default the program is written to System.out.
+ *   --seed=N         seed for the random choices                (default 1)
+ *   --globals=N      number of global variables                 (default 10)
+ *   --tuples=N       number of tuple types                      (default 5)
+ *   --tuple-depth=N  how deeply tuple types are nested in
+ *                    each other (1 means no nesting)            (default 3)
+ *   --functions=N    number of functions                        (default 20)
+ *   --stmts=N        number of statements in each function      (default 10)
+ *   --expr-depth=N   maximum nesting depth of expressions       (default 4)
+ *   --fanout=N       number of calls each function makes to
+ *                    functions declared before it               (default 2)
+ *   --type-errors=P  percentage of statements replaced by a
+ *                    statement with a type error                (default 0)
+ *   --name-errors=P  percentage of statements replaced by a
+ *                    statement using an undeclared name         (default 0)
+ *                    (name errors stop P5 before type checking)
+ ****/
+
+public class Generator {
+    // options
+    private long seed = 1;
+    private int numGlobals = 10;
+    private int numTuples = 5;
+    private int tupleDepth = 3;
+    private int numFunctions = 20;
+    private int numStmts = 10;
+    private int exprDepth = 4;
+    private int fanout = 2;
+    private int typeErrorPercent = 0;
+    private int nameErrorPercent = 0;
+
+    private static final int INT = 0;
+    private static final int LOG = 1;
+    private static final int VOID = 2;
+    private static final String[] TYPE_NAMES = {"integer", "logical", "void"};
+
+    public static void main(String[] args) throws IOException {
+        Generator gen = new Generator();
+        int argNum = 0;
+        while (argNum < args.length && args[argNum].startsWith("--")) {
+            gen.setOption(args[argNum]);
+            argNum++;
+        }
+        if (args.length - argNum > 1) {
+            System.err.println("please supply at most one output file");
+            System.exit(-1);
+        }
+
+        OutputStream out = (argNum < args.length)
+                           ? new FileOutputStream(args[argNum]) : System.out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, "US-ASCII"),
+                                           1 << 16);
+        gen.generate(writer);
+        writer.flush();
+        if (out != System.out) {
+            writer.close();
+        }
+    }
+
+    private void setOption(String option) {
+        int eq = option.indexOf('=');
+        if (eq < 0) {
+            badOption(option);
+        }
+        String name = option.substring(2, eq);
+        long value = 0;
+        try {
+            value = Long.parseLong(option.substring(eq + 1));
+        } catch (NumberFormatException ex) {
+            badOption(option);
+        }
+        if (value < 0 || (value > Integer.MAX_VALUE && !name.equals("seed"))) {
+            badOption(option);
+        }
+
+        if (name.equals("seed")) {
+            seed = value;
+        } else if (name.equals("globals")) {
+            numGlobals = (int)value;
+        } else if (name.equals("tuples")) {
+            numTuples = (int)value;
+        } else if (name.equals("tuple-depth") && value > 0) {
+            tupleDepth = (int)value;
+        } else if (name.equals("functions")) {
+            numFunctions = (int)value;
+        } else if (name.equals("stmts")) {
+            numStmts = (int)value;
+        } else if (name.equals("expr-depth")) {
+            exprDepth = (int)value;
+        } else if (name.equals("fanout")) {
+            fanout = (int)value;
+        } else if (name.equals("type-errors") && value <= 100) {
+            typeErrorPercent = (int)value;
+        } else if (name.equals("name-errors") && value <= 100) {
+            nameErrorPercent = (int)value;
+        } else {
+            badOption(option);
+        }
+    }
+
+    private static void badOption(String option) {
+        System.err.println("bad option " + option);
+        System.exit(-1);
+    }
+
+    // **********************************************************************
+    // the state of the program generated so far
+    // **********************************************************************
+
+    private Random random;
+    private Writer out;
+
+    // for tuple type k: its nesting level (0 if it has no tuple field), and
+    // the paths (":x", ":f:x", ...) to its integer and logical fields
+    private int[] tupleLevel;
+    private List<List<String>> tupleIntPaths = new ArrayList<List<String>>();
+    private List<List<String>> tupleLogPaths = new ArrayList<List<String>>();
+
+    // for each function declared so far: its name, return type and formals
+    private List<String> fctnNames = new ArrayList<String>();
+    private List<Integer> fctnReturns = new ArrayList<Integer>();
+    private List<int[]> fctnFormals = new ArrayList<int[]>();
+
+    // the integer and logical locations in scope (variables and paths to
+    // tuple fields); the globals come first
+    private List<String> intLocs = new ArrayList<String>();
+    private List<String> logLocs = new ArrayList<String>();
+    private int numGlobalIntLocs;
+    private int numGlobalLogLocs;
+
+    private int returnType;  // of the function being generated
+    private int numLocals;   // used to make names for locals
+    private int numErrors;   // used to make undeclared names
+
+    /***
+     * Write a whole program to out.
+     ***/
+    public void generate(Writer out) throws IOException {
+        this.out = out;
+        random = new Random(seed);
+
+        tupleLevel = new int[numTuples];
+        for (int k = 0; k < numTuples; k++) {
+            genTuple(k);
+        }
+        for (int k = 0; k < numGlobals; k++) {
+            genVarDecl("g" + k, 0);
+        }
+        numGlobalIntLocs = intLocs.size();
+        numGlobalLogLocs = logLocs.size();
+        for (int k = 0; k < numFunctions; k++) {
+            genFctn(k);
+        }
+    }
+
+    /***
+     * tuple type k: an integer and a logical field, sometimes a few more,
+     * and (unless it starts a new nesting chain) a field of type k-1
+     ***/
+    private void genTuple(int k) throws IOException {
+        List<String> intPaths = new ArrayList<String>();
+        List<String> logPaths = new ArrayList<String>();
+        out.write("tuple T" + k + " {\n");
+        out.write("    integer x.\n");
+        intPaths.add(":x");
+        out.write("    logical b.\n");
+        logPaths.add(":b");
+        int extra = random.nextInt(3);
+        for (int j = 0; j < extra; j++) {
+            if (random.nextBoolean()) {
+                out.write("    integer i" + j + ".\n");
+                intPaths.add(":i" + j);
+            } else {
+                out.write("    logical l" + j + ".\n");
+                logPaths.add(":l" + j);
+            }
+        }
+        if (k > 0 && tupleLevel[k - 1] + 1 < tupleDepth) {
+            tupleLevel[k] = tupleLevel[k - 1] + 1;
+            out.write("    tuple T" + (k - 1) + " f.\n");
+            for (String path : tupleIntPaths.get(k - 1)) {
+                intPaths.add(":f" + path);
+            }
+            for (String path : tupleLogPaths.get(k - 1)) {
+                logPaths.add(":f" + path);
+            }
+        }
+        out.write("}.\n\n");
+        tupleIntPaths.add(intPaths);
+        tupleLogPaths.add(logPaths);
+    }
+
+    /***
+     * a variable declaration (of a random type) at the given indentation
+     ***/
+    private void genVarDecl(String name, int indent) throws IOException {
+        indent(indent);
+        int kind = random.nextInt(numTuples > 0 ? 3 : 2);
+        if (kind == INT) {
+            out.write("integer " + name + ".\n");
+            intLocs.add(name);
+        } else if (kind == LOG) {
+            out.write("logical " + name + ".\n");
+            logLocs.add(name);
+        } else {
+            int tuple = random.nextInt(numTuples);
+            out.write("tuple T" + tuple + " " + name + ".\n");
+            for (String path : tupleIntPaths.get(tuple)) {
+                intLocs.add(name + path);
+            }
+            for (String path : tupleLogPaths.get(tuple)) {
+                logLocs.add(name + path);
+            }
+        }
+    }
+
+    private void genFctn(int k) throws IOException {
+        String name = "f" + k;
+        returnType = random.nextInt(3);
+        int[] formals = new int[random.nextInt(4)];
+        out.write(TYPE_NAMES[returnType] + " " + name + "{");
+        for (int j = 0; j < formals.length; j++) {
+            formals[j] = random.nextInt(2);
+            out.write((j > 0 ? ", " : "") + TYPE_NAMES[formals[j]] + " p" + j);
+        }
+        out.write("} [\n");
+
+        // the function can call itself, so declare it before the body
+        fctnNames.add(name);
+        fctnReturns.add(returnType);
+        fctnFormals.add(formals);
+
+        for (int j = 0; j < formals.length; j++) {
+            (formals[j] == INT ? intLocs : logLocs).add("p" + j);
+        }
+        numLocals = 0;
+        int numDecls = 1 + random.nextInt(3);
+        for (int j = 0; j < numDecls; j++) {
+            genVarDecl("v" + numLocals++, 4);
+        }
+        // make sure there is something to assign to
+        indent(4);
+        out.write("integer v" + numLocals + ".\n");
+        intLocs.add("v" + numLocals++);
+        indent(4);
+        out.write("logical v" + numLocals + ".\n");
+        logLocs.add("v" + numLocals++);
+
+        // spread the calls over the statements
+        int stmts = Math.max(numStmts - 1, 0);
+        for (int j = 0; j < stmts; j++) {
+            int calls = fanout * (j + 1) / stmts - fanout * j / stmts;
+            genStmt(4, 2, calls);
+        }
+        if (stmts == 0) {
+            for (int j = 0; j < fanout; j++) {
+                genCallStmt(4);
+            }
+        }
+        genReturn(4);
+        out.write("]\n\n");
+
+        trim(intLocs, numGlobalIntLocs);
+        trim(logLocs, numGlobalLogLocs);
+    }
+
+    private static void trim(List<String> list, int size) {
+        while (list.size() > size) {
+            list.remove(list.size() - 1);
+        }
+    }
+
+    // **********************************************************************
+    // statements
+    // **********************************************************************
+
+    /***
+     * a statement at the given indentation, containing the given number of
+     * calls; blocks can be nested at most nesting more levels
+     ***/
+    private void genStmt(int indent, int nesting, int calls)
+        throws IOException {
+        int percent = random.nextInt(100);
+        if (percent < nameErrorPercent) {
+            indent(indent);
+            out.write("undeclared" + numErrors++ + " = 1.\n");
+            return;
+        }
+        if (percent - nameErrorPercent < typeErrorPercent) {
+            genBadStmt(indent);
+            return;
+        }
+        if (calls > 0) {
+            for (int j = 0; j < calls; j++) {
+                genCallStmt(indent);
+            }
+            return;
+        }
+
+        int kind = random.nextInt(nesting > 0 ? 10 : 7);
+        indent(indent);
+        switch (kind) {
+        case 0:
+        case 1:
+        case 2:
+            int type = random.nextInt(2);
+            out.write(loc(type) + " = ");
+            genExp(type, exprDepth);
+            out.write(".\n");
+            break;
+        case 3:
+            out.write(loc(INT) + (random.nextBoolean() ? "++.\n" : "--.\n"));
+            break;
+        case 4:
+            out.write("read >> " + loc(random.nextInt(2)) + ".\n");
+            break;
+        case 5:
+            out.write("write << ");
+            if (random.nextInt(4) == 0) {
+                out.write("\"string " + random.nextInt(1000) + "\\n\"");
+            } else {
+                genExp(random.nextInt(2), exprDepth);
+            }
+            out.write(".\n");
+            break;
+        case 6:
+            out.write(loc(INT) + " = " + loc(INT) + " + 1.\n");
+            break;
+        case 7:
+            out.write("if ");
+            genExp(LOG, exprDepth);
+            out.write(" [\n");
+            genBlock(indent + 4, nesting - 1);
+            indent(indent);
+            out.write("]\n");
+            break;
+        case 8:
+            out.write("if ");
+            genExp(LOG, exprDepth);
+            out.write(" [\n");
+            genBlock(indent + 4, nesting - 1);
+            indent(indent);
+            out.write("]\n");
+            indent(indent);
+            out.write("else [\n");
+            genBlock(indent + 4, nesting - 1);
+            indent(indent);
+            out.write("]\n");
+            break;
+        default:
+            out.write("while ");
+            genExp(LOG, exprDepth);
+            out.write(" [\n");
+            genBlock(indent + 4, nesting - 1);
+            indent(indent);
+            out.write("]\n");
+            break;
+        }
+    }
+
+    /***
+     * the declarations and statements of an if or while
+     ***/
+    private void genBlock(int indent, int nesting) throws IOException {
+        int intSize = intLocs.size();
+        int logSize = logLocs.size();
+        if (random.nextBoolean()) {
+            genVarDecl("v" + numLocals++, indent);
+        }
+        int stmts = 1 + random.nextInt(2);
+        for (int j = 0; j < stmts; j++) {
+            genStmt(indent, nesting, 0);
+        }
+        trim(intLocs, intSize);
+        trim(logLocs, logSize);
+    }
+
+    /***
+     * a call statement, or an assignment of the result of a call
+     ***/
+    private void genCallStmt(int indent) throws IOException {
+        indent(indent);
+        int fctn = random.nextInt(fctnNames.size());
+        int type = fctnReturns.get(fctn);
+        if (type != VOID) {
+            out.write(loc(type) + " = ");
+        }
+        genCall(fctn, exprDepth);
+        out.write(".\n");
+    }
+
+    private void genReturn(int indent) throws IOException {
+        indent(indent);
+        if (returnType == VOID) {
+            out.write("return.\n");
+        } else {
+            out.write("return ");
+            genExp(returnType, exprDepth);
+            out.write(".\n");
+        }
+    }
+
+    /***
+     * a statement with a type error
+     ***/
+    private void genBadStmt(int indent) throws IOException {
+        indent(indent);
+        switch (random.nextInt(5)) {
+        case 0:  // Mismatched type
+            out.write(loc(INT) + " = " + loc(LOG) + ".\n");
+            break;
+        case 1:  // Arithmetic operator used with non-integer operand
+            out.write(loc(INT) + " = " + loc(LOG) + " + 1.\n");
+            break;
+        case 2:  // Non-logical expression used in if condition
+            out.write("if " + loc(INT) + " [\n");
+            indent(indent);
+            out.write("]\n");
+            break;
+        case 3:  // Function call with wrong # of args
+            int fctn = random.nextInt(fctnNames.size());
+            out.write(fctnNames.get(fctn) + "(");
+            int numArgs = fctnFormals.get(fctn).length + 1;
+            for (int j = 0; j < numArgs; j++) {
+                out.write((j > 0 ? ", " : "") + "1");
+            }
+            out.write(").\n");
+            break;
+        default: // Write attempt of function name
+            out.write("write << " + fctnNames.get(random.nextInt(fctnNames.size())) +
+                      ".\n");
+            break;
+        }
+    }
+
+    // **********************************************************************
+    // expressions
+    // **********************************************************************
+
+    /***
+     * an expression of the given type (INT or LOG), nested at most depth
+     * levels deep
+     ***/
+    private void genExp(int type, int depth) throws IOException {
+        if (depth <= 0) {
+            genLeaf(type);
+            return;
+        }
+
+        // one operand gets the full depth, the other a random smaller one,
+        // so the size of the expression grows linearly with its depth
+        int other = random.nextInt(depth);
+        int kind = random.nextInt(8);
+        if (kind == 0) {
+            genLeaf(type);
+        } else if (kind == 1) {
+            int fctn = findFctn(type);
+            if (fctn < 0) {
+                genLeaf(type);
+            } else {
+                genCall(fctn, depth - 1);
+            }
+        } else if (kind == 2) {
+            out.write("(" + loc(type) + " = ");
+            genExp(type, depth - 1);
+            out.write(")");
+        } else if (type == INT) {
+            if (kind == 3) {
+                // parenthesized, so that "- -" can't become "--"
+                out.write("-(");
+                genExp(INT, depth - 1);
+                out.write(")");
+            } else {
+                out.write("(");
+                genExp(INT, depth - 1);
+                out.write(" " + "+-*/".charAt(random.nextInt(4)) + " ");
+                genExp(INT, other);
+                out.write(")");
+            }
+        } else {
+            if (kind == 3) {
+                out.write("~");
+                genExp(LOG, depth - 1);
+            } else if (kind < 6) {
+                out.write("(");
+                genExp(LOG, depth - 1);
+                out.write(random.nextBoolean() ? " & " : " | ");
+                genExp(LOG, other);
+                out.write(")");
+            } else {
+                String[] ops = {" < ", " <= ", " > ", " >= ", " == ", " ~= "};
+                out.write("(");
+                genExp(INT, depth - 1);
+                out.write(ops[random.nextInt(ops.length)]);
+                genExp(INT, other);
+                out.write(")");
+            }
+        }
+    }
+
+    private void genLeaf(int type) throws IOException {
+        int kind = random.nextInt(3);
+        if (kind == 0) {
+            if (type == INT) {
+                out.write(Integer.toString(random.nextInt(1000)));
+            } else {
+                out.write(random.nextBoolean() ? "True" : "False");
+            }
+        } else {
+            out.write(loc(type));
+        }
+    }
+
+    /***
+     * a call to function fctn, with arguments nested at most depth deep
+     ***/
+    private void genCall(int fctn, int depth) throws IOException {
+        out.write(fctnNames.get(fctn) + "(");
+        int[] formals = fctnFormals.get(fctn);
+        for (int j = 0; j < formals.length; j++) {
+            if (j > 0) {
+                out.write(", ");
+            }
+            genExp(formals[j], random.nextInt(depth + 1));
+        }
+        out.write(")");
+    }
+
+    /***
+     * a random function (declared so far) that returns the given type, or
+     * -1 if the few tried don't
+     ***/
+    private int findFctn(int type) {
+        for (int tries = 0; tries < 4; tries++) {
+            int fctn = random.nextInt(fctnNames.size());
+            if (fctnReturns.get(fctn) == type) {
+                return fctn;
+            }
+        }
+        return -1;
+    }
+
+    /***
+     * a random location (variable or tuple field) of the given type
+     ***/
+    private String loc(int type) {
+        List<String> locs = (type == INT) ? intLocs : logLocs;
+        return locs.get(random.nextInt(locs.size()));
+    }
+
+    private void indent(int indent) throws IOException {
+        for (int k = 0; k < indent; k++) {
+            out.write(' ');
+        }
+    }
+}
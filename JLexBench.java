@@ -0,0 +1,135 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/****
+ * JLexBench times JLex (whichever JLex.Main is on the class path) making
+ * the scanner for base.jlex and for a large synthetic spec, so that
+ * changes to the generator in deps/JLex can be measured.
+ *
+ *     java JLexBench [--runs=N] [--keywords=K] [--seed=S] [spec...]
+ *
+ * The synthetic spec has K keywords (random words, with rules ahead of an
+ * identifier rule, as in base.jlex), an operator rule for each pair of
+ * punctuation characters, and the literal, comment and whitespace rules
+ * of base.jlex.  Other specs can be given too.  Each spec is copied to a
+ * temporary directory and made N times (after one run to warm up), and
+ * the fastest and median times are printed, with the size of the
+ * generated scanner.  JLex's own output is thrown away.
+ ****/
+
+public class JLexBench {
+    public static void main(String[] args) throws Exception {
+        int runs = 5;
+        int keywords = 300;
+        long seed = 1;
+        int argNum = 0;
+        while (argNum < args.length && args[argNum].startsWith("--")) {
+            String option = args[argNum];
+            if (option.startsWith("--runs=")) {
+                runs = Integer.parseInt(option.substring(7));
+            } else if (option.startsWith("--keywords=")) {
+                keywords = Integer.parseInt(option.substring(11));
+            } else if (option.startsWith("--seed=")) {
+                seed = Long.parseLong(option.substring(7));
+            } else {
+                System.err.println("unknown option " + option);
+                System.exit(-1);
+            }
+            argNum++;
+        }
+
+        Path dir = Files.createTempDirectory("jlexbench");
+        List<Path> specs = new ArrayList<Path>();
+        specs.add(Files.copy(Paths.get("base.jlex"), dir.resolve("base.jlex")));
+        Path synthetic = dir.resolve("synthetic.jlex");
+        Files.write(synthetic, syntheticSpec(keywords, seed).getBytes("US-ASCII"));
+        specs.add(synthetic);
+        for (int k = argNum; k < args.length; k++) {
+            Path spec = Paths.get(args[k]);
+            specs.add(Files.copy(spec, dir.resolve(spec.getFileName())));
+        }
+
+        for (Path spec : specs) {
+            long[] times = new long[runs];
+            generate(spec);  // warm up
+            for (int r = 0; r < runs; r++) {
+                long start = System.nanoTime();
+                generate(spec);
+                times[r] = System.nanoTime() - start;
+            }
+            Arrays.sort(times);
+            long size = Files.size(Paths.get(spec + ".java"));
+            System.out.printf("%-20s fastest %8.1f ms   median %8.1f ms" +
+                              "   (%d bytes generated)%n",
+                              spec.getFileName(), times[0] / 1e6,
+                              times[runs / 2] / 1e6, size);
+        }
+    }
+
+    // make the scanner for spec, throwing away what JLex prints
+    private static void generate(Path spec) throws IOException {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            JLex.Main.main(new String[] {spec.toString()});
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    // the synthetic spec, with the given number of keywords
+    private static String syntheticSpec(int keywords, long seed) {
+        Random rand = new Random(seed);
+        StringBuilder sb = new StringBuilder();
+        sb.append("%%\n");
+        sb.append("DIGIT=        [0-9]\n");
+        sb.append("LETTER=       [a-zA-Z]\n");
+        sb.append("WHITESPACE=   [\\040\\t]\n");
+        sb.append("ESCAPEDCHAR=  [nst'\\\"\\\\]\n");
+        sb.append("NOTNEWLINEORQUOTEORESCAPE= [^\\n\\\"\\\\]\n");
+        sb.append("%class Synthetic\n");
+        sb.append("%type int\n");
+        sb.append("%eofval{\nreturn 0;\n%eofval}\n");
+        sb.append("%line\n");
+        sb.append("%%\n");
+
+        int token = 1;
+        Set<String> words = new HashSet<String>();
+        while (words.size() < keywords) {
+            int length = 2 + rand.nextInt(9);
+            StringBuilder word = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                word.append((char)('a' + rand.nextInt(26)));
+            }
+            if (words.add(word.toString())) {
+                sb.append('"').append(word).append("\" { return ")
+                  .append(token++).append("; }\n");
+            }
+        }
+
+        String punctuation = "{}()[]:,.<>=~&|+-*/";
+        for (int i = 0; i < punctuation.length(); i++) {
+            for (int j = 0; j < punctuation.length(); j++) {
+                sb.append("\"").append(punctuation.charAt(i))
+                  .append(punctuation.charAt(j)).append("\" { return ")
+                  .append(token++).append("; }\n");
+            }
+            sb.append("\"").append(punctuation.charAt(i))
+              .append("\" { return ").append(token++).append("; }\n");
+        }
+
+        sb.append("({LETTER}|\"_\")({LETTER}|{DIGIT}|\"_\")* { return ")
+          .append(token++).append("; }\n");
+        sb.append("{DIGIT}+ { return ").append(token++).append("; }\n");
+        sb.append("\\\"({NOTNEWLINEORQUOTEORESCAPE}|\\\\{ESCAPEDCHAR})*\\\" " +
+                  "{ return ").append(token++).append("; }\n");
+        sb.append("\\\"({NOTNEWLINEORQUOTEORESCAPE}|\\\\{ESCAPEDCHAR})* " +
+                  "{ return ").append(token++).append("; }\n");
+        sb.append("(\"!!\"|\"$\")[^\\n]* { }\n");
+        sb.append("\\n { }\n");
+        sb.append("{WHITESPACE}+ { }\n");
+        sb.append(". { return -1; }\n");
+        return sb.toString();
+    }
+}
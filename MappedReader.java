@@ -0,0 +1,93 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+/***
+ * The MappedReader class reads a file through memory-mapped windows of it
+ * (the --mmap option of P5), instead of through a FileReader, which copies
+ * the bytes into a buffer and then decodes them into another one.  Here
+ * the bytes of the file are turned into chars straight from the mapping.
+ *
+ * base programs are ASCII, so each byte is one char; any other bytes are
+ * read as ISO-8859-1.
+ *
+ * Files are mapped a window (WINDOW bytes) at a time, so they can be
+ * bigger than one mapping allows.
+ ***/
+class MappedReader extends Reader {
+    private static final long WINDOW = 1L << 26;
+
+    private FileChannel channel;
+    private long size;              // of the file
+    private long windowStart;       // where window is in the file
+    private MappedByteBuffer window;
+
+    /***
+     * A MappedReader reading the file with the given name.  Throws
+     * FileNotFoundException if there is no such file.
+     ***/
+    public MappedReader(String fileName) throws IOException {
+        try {
+            channel = FileChannel.open(Paths.get(fileName),
+                                       StandardOpenOption.READ);
+        } catch (NoSuchFileException ex) {
+            throw new FileNotFoundException(fileName);
+        }
+        size = channel.size();
+        map(0);
+    }
+
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!window.hasRemaining()) {
+            long next = windowStart + window.capacity();
+            if (next >= size) {
+                return -1;
+            }
+            map(next);
+        }
+
+        int n = Math.min(len, window.remaining());
+        int pos = window.position();
+        for (int i = 0; i < n; i++) {
+            cbuf[off + i] = (char)(window.get(pos + i) & 0xff);
+        }
+        window.position(pos + n);
+        return n;
+    }
+
+    /***
+     * Return the rest of the file (what has not been read yet) as one
+     * buffer of bytes, for scanners that work on bytes (see BaseScanner).
+     * Throws IOException if that is too big for one buffer.
+     ***/
+    public ByteBuffer bytes() throws IOException {
+        long start = windowStart + window.position();
+        if (size - start > Integer.MAX_VALUE) {
+            throw new IOException("file too large to map");
+        }
+        if (windowStart + window.capacity() < size) {
+            // the window does not reach the end of the file: map the rest
+            windowStart = start;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                                 size - start);
+        }
+        ByteBuffer rest = window.slice();
+        window.position(window.limit());  // it has all been read now
+        return rest;
+    }
+
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // map the window starting at the given place in the file
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                             Math.min(WINDOW, size - start));
+    }
+}
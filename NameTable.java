@@ -0,0 +1,136 @@
+import java.nio.*;
+import java.util.*;
+
+/***
+ * The NameTable class interns the identifiers of one program: each distinct
+ * name gets an id (0, 1, 2, ... in the order the names are first seen), so
+ * that symbol tables can key on small ints instead of hashing Strings.
+ *
+ * The scanner interns each identifier straight from its buffer, so a String
+ * is only made the first time a name is seen.
+ ***/
+public class NameTable {
+    private String[] names;     // indexed by id
+    private int[] hashes;       // hash of each name, indexed by id
+    private int[] slots;        // open addressing: id + 1 (0 if empty)
+    private int size;           // number of ids given out
+
+    public NameTable() {
+        names = new String[64];
+        hashes = new int[64];
+        slots = new int[128];
+    }
+
+    /***
+     * Return the id of the name made of the given chars of buf, giving it
+     * a new id if it has not been seen before.
+     ***/
+    public int intern(char[] buf, int start, int length) {
+        int h = 0;
+        for (int i = start; i < start + length; i++) {
+            h = 31 * h + buf[i];
+        }
+        int mask = slots.length - 1;
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (hashes[id] == h && matches(names[id], buf, start, length))
+                return id;
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        int id = size++;
+        names[id] = new String(buf, start, length);
+        hashes[id] = h;
+        slots[slot] = id + 1;
+        if (2 * size > slots.length)
+            rehash();
+        return id;
+    }
+
+    /***
+     * Same as above, for a name made of the given bytes of buf (each byte
+     * being one char, as in ISO-8859-1).
+     ***/
+    public int intern(ByteBuffer buf, int start, int length) {
+        int h = 0;
+        for (int i = start; i < start + length; i++) {
+            h = 31 * h + (buf.get(i) & 0xff);
+        }
+        int mask = slots.length - 1;
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (hashes[id] == h && matches(names[id], buf, start, length))
+                return id;
+            slot = (slot + 1) & mask;
+        }
+
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char)(buf.get(start + i) & 0xff);
+        }
+        return intern(chars, 0, length);
+    }
+
+    /***
+     * Same as above, for the given name.
+     ***/
+    public int intern(String name) {
+        return intern(name.toCharArray(), 0, name.length());
+    }
+
+    /***
+     * Return the name with the given id.
+     ***/
+    public String name(int id) {
+        return names[id];
+    }
+
+    /***
+     * Return the number of distinct names (one more than the largest id).
+     ***/
+    public int size() {
+        return size;
+    }
+
+    private static boolean matches(String name, char[] buf, int start,
+                                   int length) {
+        if (name.length() != length)
+            return false;
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != buf[start + i])
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(String name, ByteBuffer buf, int start,
+                                   int length) {
+        if (name.length() != length)
+            return false;
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != (buf.get(start + i) & 0xff))
+                return false;
+        }
+        return true;
+    }
+
+    // double the number of slots, and put every id back in
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int h = hashes[id];
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+}
@@ -1,4 +1,8 @@
 import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
 import java_cup.runtime.*;
 
 /****
@@ -7,12 +11,70 @@ import java_cup.runtime.*;
  * There should be 2 command-line arguments:
  * 1. the file to be parsed
  * 2. the output file into which the AST built by the parser should be unparsed
+ *
+ * They may be preceded by options:
+ *   --symtab=flat   use a FlatSymTable instead of a SymTable for name analysis
+ *   --symtab=persistent
+ *                   use a PersistentSymTable instead
+ *   --parallel[=N]  type check the functions in parallel (using N threads;
+ *                   by default, the common fork/join pool); with
+ *                   --symtab=persistent, name analysis of the functions is
+ *                   done in parallel too (which is not faster on one
+ *                   processor: the tasks cost more than they save)
+ *   --batch[=N]     batch mode (see below)
+ *   --server=PORT   server mode: instead of processing files, keep running
+ *                   and answer requests on the given loopback port (see
+ *                   CheckServer and CheckClient)
+ *   --stream        check each top-level declaration as soon as it has
+ *                   been parsed, so that the whole AST is never kept (the
+ *                   messages and output are the same; not for batch mode,
+ *                   and --parallel is ignored)
+ *   --mmap          read input files by memory-mapping them (see
+ *                   MappedReader); they must be ASCII
+ *   --scanner=hand  use the hand-written BaseScanner instead of the
+ *                   scanner made by JLex (--scanner=jlex, the default);
+ *                   input files are memory-mapped, and must be ASCII
+ *   --scanner=tokens
+ *                   same, but scan the whole file into a TokenBuffer
+ *                   before parsing; with --parallel, big files are
+ *                   scanned in parts at once (see ParallelTokenizer)
+ *   --stats[=FILE]  count the time, memory, tokens, nodes, symbol-table
+ *                   operations and messages of each phase (see Stats), and
+ *                   print them to System.err, or write them to FILE as JSON
+ *                   (in batch mode, the counts for all of the files)
+ *
+ * In batch mode, the remaining arguments are any number of files and
+ * directories (all of the .base files under a directory are processed).
+ * The files are processed by N threads (by default, one per processor);
+ * each X.base is unparsed to X.out and its messages are written to X.err.
  ****/
 
 public class P5 {
+    // options
+    private String symTabKind = "list"; // list, flat or persistent
+    private ForkJoinPool pool = null;  // for parallel type checking
+    private int batchThreads = 0;      // > 0 in batch mode
+    private int serverPort = 0;        // > 0 in server mode
+    private boolean streaming = false;
+    private boolean mapped = false;    // with --mmap
+    private String scannerKind = "jlex"; // jlex, hand or tokens
+    private Stats stats = null;        // with --stats
+    private String statsFile = null;   // with --stats=FILE
+
     public static void main(String[] args)
         throws IOException // may be thrown by the scanner
     {
+        P5 p5 = new P5();
+        args = p5.processOptions(args);
+
+        if (p5.batchThreads > 0) {
+            System.exit(p5.batch(args));
+        }
+        if (p5.serverPort > 0) {
+            p5.serve(p5.serverPort);
+            return;
+        }
+
         // check for command-line args
         if (args.length != 2) {
             System.err.println("please supply name of file to be parsed " +
@@ -21,49 +83,496 @@ public class P5 {
         }
 
         // open input file
-        FileReader inFile = null;
+        Reader inFile = null;
         try {
-            inFile = new FileReader(args[0]);
+            inFile = p5.openInput(args[0]);
         } catch (FileNotFoundException ex) {
             System.err.println("file " + args[0] + " not found");
             System.exit(-1);
         }
 
         // open output file
+        FileOutputStream outStream = null;
         PrintWriter outFile = null;
         try {
-            outFile = new PrintWriter(args[1]);
+            outStream = new FileOutputStream(args[1]);
+            outFile = new UnparseWriter(outStream.getChannel());
         } catch (FileNotFoundException ex) {
             System.err.println("file " + args[1] +
                                " could not be opened for writing");
             System.exit(-1);
         }
 
-        parser P = new parser(new Yylex(inFile));
-
-        Symbol root = null; // parser returns a Symbol whose value field
-                            // is the translation of the root nonterminal
-                            // (i.e., of the nonterminal "program")
+        if (p5.stats != null) {
+            p5.stats = Stats.begin();
+        }
 
+        ProgramNode root = null;
+        StreamSink sink = null;
         try {
-            root = P.parse(); // do the parse
+            if (p5.streaming) {
+                sink = new StreamSink(p5.newSymTable(), outFile);
+                p5.parse(inFile, sink);
+            } else {
+                root = p5.parse(inFile); // do the parse
+            }
             System.out.println ("program parsed correctly");
+        } catch (SyntaxErrorException ex) {
+            if (sink != null) {
+                discardOutput(outFile, outStream);
+            }
+            p5.exit(-1);  // the parser has already reported it
         } catch (Exception ex){
+            if (sink != null) {
+                discardOutput(outFile, outStream);
+            }
             System.err.println("exception occured during parse: " + ex);
-            System.exit(-1);
+            p5.exit(-1);
+        }
+
+        try {
+            if (sink != null) {
+                sink.finish();
+                if (ErrMsg.getErr()) {
+                    discardOutput(outFile, outStream);
+                }
+            } else {
+                p5.analyze(root, outFile);
+            }
+        } catch (IllegalStateException ex) {
+            if (sink != null) {
+                discardOutput(outFile, outStream);
+            }
+            System.err.println(ex.getMessage());
+            p5.exit(-1);
+        }
+        outFile.close();
+        p5.reportStats();
+
+        return;
+    }
+
+    /***
+     * Process the options at the start of args and return the rest of args.
+     ***/
+    private String[] processOptions(String[] args) {
+        int argNum = 0;
+        while (argNum < args.length && args[argNum].startsWith("--")) {
+            String option = args[argNum];
+            if (option.equals("--symtab=flat") ||
+                option.equals("--symtab=list") ||
+                option.equals("--symtab=persistent")) {
+                symTabKind = option.substring("--symtab=".length());
+            } else if (option.equals("--parallel")) {
+                pool = ForkJoinPool.commonPool();
+            } else if (option.startsWith("--parallel=")) {
+                pool = new ForkJoinPool(intOption(option));
+            } else if (option.equals("--batch")) {
+                batchThreads = Runtime.getRuntime().availableProcessors();
+            } else if (option.startsWith("--batch=")) {
+                batchThreads = intOption(option);
+            } else if (option.startsWith("--server=")) {
+                serverPort = intOption(option);
+            } else if (option.equals("--stream")) {
+                streaming = true;
+            } else if (option.equals("--mmap")) {
+                mapped = true;
+            } else if (option.equals("--scanner=jlex") ||
+                       option.equals("--scanner=hand") ||
+                       option.equals("--scanner=tokens")) {
+                scannerKind = option.substring("--scanner=".length());
+            } else if (option.equals("--stats")) {
+                stats = new Stats();
+            } else if (option.startsWith("--stats=")) {
+                stats = new Stats();
+                statsFile = option.substring("--stats=".length());
+            } else {
+                System.err.println("unknown option " + option);
+                System.exit(-1);
+            }
+            argNum++;
+        }
+        return Arrays.copyOfRange(args, argNum, args.length);
+    }
+
+    /***
+     * With --stats, print the counts to System.err or write them to the
+     * stats file.
+     ***/
+    private void reportStats() throws IOException {
+        if (stats == null) {
+            return;
+        }
+        if (statsFile == null) {
+            stats.print(System.err);
+            return;
+        }
+        Writer out = new FileWriter(statsFile);
+        try {
+            stats.writeJson(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /***
+     * Report the stats (with --stats) and exit with the given status; for
+     * the ways out of main once the input has been opened.
+     ***/
+    private void exit(int status) throws IOException {
+        reportStats();
+        System.exit(status);
+    }
+
+    /***
+     * Open the input file with the given name, as chosen by --mmap (and
+     * --scanner, as BaseScanner needs the file's bytes).
+     ***/
+    Reader openInput(String fileName) throws IOException {
+        if (mapped || !scannerKind.equals("jlex")) {
+            return new MappedReader(fileName);
+        }
+        return new FileReader(fileName);
+    }
+
+    /***
+     * Return the (positive) number N in an option of the form --name=N.
+     ***/
+    private static int intOption(String option) {
+        String value = option.substring(option.indexOf('=') + 1);
+        try {
+            int n = Integer.parseInt(value);
+            if (n > 0) {
+                return n;
+            }
+        } catch (NumberFormatException ex) {
+        }
+        System.err.println("bad value in option " + option);
+        System.exit(-1);
+        return 0;
+    }
+
+    /***
+     * Throw away everything written to the output file so far (with
+     * --stream, declarations are unparsed before the whole program has
+     * been read and checked).
+     ***/
+    private static void discardOutput(PrintWriter outFile,
+                                      FileOutputStream outStream)
+        throws IOException {
+        outFile.flush();
+        outStream.getChannel().truncate(0);
+    }
+
+    /***
+     * Parse the program read from inFile and return its AST.
+     * Throws SyntaxErrorException (after reporting the error) if there is
+     * a syntax error.
+     ***/
+    ProgramNode parse(Reader inFile) throws Exception {
+        return parse(inFile, null);
+    }
+
+    /***
+     * Same as above, but if sink is not null, each top-level declaration
+     * is given to sink as soon as it has been parsed, and the program
+     * returned has no declarations.
+     ***/
+    ProgramNode parse(Reader inFile, DeclSink sink) throws Exception {
+        java_cup.runtime.Scanner scanner;
+        if (scannerKind.equals("tokens")) {
+            Stats.startPhase(Stats.LEX);
+            TokenBuffer tokens;
+            if (pool != null) {
+                tokens = ParallelTokenizer.tokenize(inFile, pool);
+            } else {
+                tokens = new BaseScanner(inFile).tokenize();
+            }
+            Stats.endPhase();
+            scanner = tokens.scanner();
+        } else {
+            if (scannerKind.equals("hand")) {
+                scanner = new BaseScanner(inFile);
+            } else {
+                scanner = new Yylex(inFile);
+            }
+            if (Stats.enabled) {
+                scanner = Stats.countTokens(scanner);
+            }
         }
+        parser P = new parser(scanner);
+        P.declSink = sink;
+        Stats.startPhase(Stats.PARSE);
+        Symbol root;
+        try {
+            root = P.parse(); // parser returns a Symbol whose value field
+                              // is the translation of the root nonterminal
+                              // (i.e., of the nonterminal "program")
+        } finally {
+            Stats.endPhase();
+        }
+        return (ProgramNode)root.value;
+    }
 
-        ((ProgramNode)root.value).nameAnalysis();  // perform name analysis
+    /***
+     * Do name analysis and type checking of the program, and if there were
+     * no errors (including errors found while parsing it), unparse it to
+     * outFile.
+     ***/
+    void analyze(ProgramNode root, PrintWriter outFile) {
+        Stats.startPhase(Stats.NAME_ANALYSIS);
+        SymTable symTab = newSymTable();
+        if (pool != null && symTab instanceof PersistentSymTable) {
+            root.nameAnalysis((PersistentSymTable)symTab, pool);
+        } else {
+            root.nameAnalysis(symTab);  // perform name analysis
+        }
+        Stats.endPhase();
 
 	if (!ErrMsg.getErr()) {
-	    ((ProgramNode)root.value).checkType(); // perform type check
+	    Stats.startPhase(Stats.CHECK_TYPE);
+	    if (pool == null) {
+	        root.checkType(); // perform type check
+	    } else {
+	        root.checkType(pool);
+	    }
+	    Stats.endPhase();
 	}
 
         if (!ErrMsg.getErr()) {  // if no errors, unparse
-            ((ASTnode)root.value).unparse(outFile, 0);
+            Stats.startPhase(Stats.UNPARSE);
+            root.unparse(outFile, 0);
+            outFile.flush();
+            Stats.endPhase();
         }
-        outFile.close();
+    }
 
-        return;
+    /***
+     * Return a new symbol table of the kind chosen by --symtab.
+     ***/
+    private SymTable newSymTable() {
+        if (symTabKind.equals("flat")) {
+            return new FlatSymTable();
+        } else if (symTabKind.equals("persistent")) {
+            return new PersistentSymTable();
+        }
+        return new SymTable();
+    }
+
+    /***
+     * StreamSink does name analysis, type checking and unparsing of each
+     * top-level declaration as soon as it has been parsed (--stream).  Only
+     * the global symbol table is kept from one declaration to the next.
+     *
+     * To give the same messages and output as analyze, the messages from
+     * name analysis and type checking are held back until finish (after
+     * the parse, whose own messages are printed right away).  Once there
+     * is an error, later declarations are no longer type checked or
+     * unparsed, and the caller must throw away what was unparsed.
+     ***/
+    private static class StreamSink implements DeclSink {
+        StreamSink(SymTable symTab, PrintWriter outFile) {
+            mySymTab = symTab;
+            myOutFile = outFile;
+            ErrMsg.startCapture();
+            myNameMsgs = ErrMsg.endCapture();
+            ErrMsg.startCapture();
+            myTypeMsgs = ErrMsg.endCapture();
+        }
+
+        public void decl(DeclNode decl) {
+            run(Stats.NAME_ANALYSIS, decl, myNameMsgs);
+            // ErrMsg.getErr() is true after an error found by the scanner
+            if (myNameMsgs.hadErr() || ErrMsg.getErr()) {
+                return;
+            }
+            run(Stats.CHECK_TYPE, decl, myTypeMsgs);
+            if (!myTypeMsgs.hadErr()) {
+                run(Stats.UNPARSE, decl, null);
+            }
+        }
+
+        /***
+         * Report the messages held back, in the order analyze would have.
+         ***/
+        void finish() {
+            ErrMsg.replay(myNameMsgs);
+            if (!ErrMsg.getErr()) {
+                ErrMsg.replay(myTypeMsgs);
+            }
+            myOutFile.flush();
+        }
+
+        // do one phase on decl, adding its messages to msgs
+        private void run(int phase, DeclNode decl, ErrMsg msgs) {
+            Stats.startPhase(phase);
+            if (phase == Stats.UNPARSE) {
+                decl.unparse(myOutFile, 0);
+            } else {
+                ErrMsg.resumeCapture(msgs);
+                int numMsgs = ErrMsg.getNumMsgs();
+                try {
+                    if (phase == Stats.NAME_ANALYSIS) {
+                        decl.nameAnalysis(mySymTab);
+                    } else {
+                        decl.checkType();
+                    }
+                } finally {
+                    numMsgs = ErrMsg.getNumMsgs() - numMsgs;
+                    ErrMsg.endCapture();
+                }
+                if (Stats.enabled) {
+                    Stats.count(Stats.DIAGNOSTICS, numMsgs);
+                }
+            }
+            Stats.endPhase();
+        }
+
+        private SymTable mySymTab;
+        private PrintWriter myOutFile;
+        private ErrMsg myNameMsgs;
+        private ErrMsg myTypeMsgs;
+    }
+
+    /***
+     * Batch mode: process all of the files named by args on batchThreads
+     * threads, printing a one-line summary for each file in order.
+     * Returns the exit status: 0 if every file could be parsed.
+     ***/
+    private int batch(String[] args) throws IOException {
+        List<File> files = new ArrayList<File>();
+        for (String arg : args) {
+            Path path = Paths.get(arg);
+            if (Files.isDirectory(path)) {
+                List<Path> paths = new ArrayList<Path>();
+                try (Stream<Path> walk = Files.walk(path)) {
+                    Iterator<Path> it = walk.iterator();
+                    while (it.hasNext()) {
+                        Path p = it.next();
+                        if (p.toString().endsWith(".base") &&
+                            Files.isRegularFile(p)) {
+                            paths.add(p);
+                        }
+                    }
+                }
+                Collections.sort(paths);
+                for (Path p : paths) {
+                    files.add(p.toFile());
+                }
+            } else {
+                files.add(path.toFile());
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(batchThreads);
+        List<Future<String>> results = new ArrayList<Future<String>>();
+        for (final File file : files) {
+            results.add(executor.submit(new Callable<String>() {
+                public String call() {
+                    return batchFile(file);
+                }
+            }));
+        }
+
+        int status = 0;
+        for (int k = 0; k < files.size(); k++) {
+            String summary;
+            try {
+                summary = results.get(k).get();
+            } catch (Exception ex) {
+                summary = "exception occured: " + ex;
+            }
+            if (!summary.equals("program parsed correctly")) {
+                status = -1;
+            }
+            System.out.println(files.get(k) + ": " + summary);
+        }
+        executor.shutdown();
+        reportStats();
+        return status;
+    }
+
+    /***
+     * Process one file in batch mode: X.base is unparsed to X.out and its
+     * messages are written to X.err.  Returns a summary of what happened,
+     * which is "program parsed correctly" if the file could be parsed.
+     ***/
+    private String batchFile(File file) {
+        String name = file.getPath();
+        if (name.endsWith(".base")) {
+            name = name.substring(0, name.length() - ".base".length());
+        }
+
+        String summary;
+        ErrMsg msgs;
+        ErrMsg.startCapture();
+        if (stats != null) {
+            Stats.begin();
+        }
+        try {
+            Reader inFile = openInput(file.getPath());
+            PrintWriter outFile = new UnparseWriter(
+                new FileOutputStream(name + ".out").getChannel());
+            try {
+                summary = check(inFile, outFile);
+            } finally {
+                inFile.close();
+                outFile.close();
+            }
+        } catch (IOException ex) {
+            summary = ex.getMessage();
+        } finally {
+            msgs = ErrMsg.endCapture();
+            if (stats != null) {
+                stats.add(Stats.end());
+            }
+        }
+
+        try {
+            Writer errFile = new FileWriter(name + ".err");
+            try {
+                errFile.write(msgs.toString());
+            } finally {
+                errFile.close();
+            }
+        } catch (IOException ex) {
+            summary = "could not write " + name + ".err: " + ex.getMessage();
+        }
+        return summary;
+    }
+
+    /***
+     * Parse and analyze the program read from inFile, unparsing it to
+     * outFile if there are no errors.  Instead of throwing exceptions,
+     * returns a summary of what happened, which is "program parsed
+     * correctly" if the program could be parsed.
+     ***/
+    String check(Reader inFile, PrintWriter outFile) {
+        try {
+            analyze(parse(inFile), outFile);
+        } catch (SyntaxErrorException ex) {
+            return "syntax error";
+        } catch (IllegalStateException ex) {
+            return ex.getMessage();
+        } catch (Exception ex) {
+            return "exception occured during parse: " + ex;
+        } catch (Error ex) {
+            // the scanners give up on unmatched input (such as a '\r')
+            // by throwing an Error; report it like the other failures
+            if (ex.getMessage() == null ||
+                !ex.getMessage().startsWith("Lexical Error")) {
+                throw ex;
+            }
+            return ex.getMessage();
+        }
+        return "program parsed correctly";
+    }
+
+    /***
+     * Server mode: accept connections on the given port of the loopback
+     * interface, and answer check requests on them (see CheckServer).
+     ***/
+    private void serve(int port) throws IOException {
+        new CheckServer(this, port).run();
     }
 }
@@ -0,0 +1,159 @@
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/***
+ * The ParallelTokenizer class scans one input into a TokenBuffer on
+ * several threads (the --scanner=tokens option of P5, with --parallel).
+ *
+ * No token can span a line end (comments and string literals stop at a
+ * newline), so the input is split into parts just after newlines, and the
+ * parts are scanned at the same time, each by its own BaseScanner:
+ *   1. the line ends in each part are counted (in parallel), so that each
+ *      part's scanner can start with the right line number (and report
+ *      messages with it), and at character 1;
+ *   2. each part is scanned into its own TokenBuffer, with its own
+ *      NameTable and its own captured messages;
+ *   3. the parts are put together in order: the ids of each part's names
+ *      are mapped to ids in one NameTable (in order, so every name gets
+ *      the id it would get from one scanner), and the messages are kept
+ *      with their tokens, to be reported in order as the parser reads
+ *      them.  Parts after unmatched input are left out.
+ * The result is the same as BaseScanner.tokenize's.
+ ***/
+class ParallelTokenizer {
+    // the smallest part worth scanning on its own
+    static final int MIN_PART = 1 << 20;
+
+    /***
+     * Tokenize everything that can be read from reader, using pool, in
+     * as many parts as is worthwhile.
+     ***/
+    static TokenBuffer tokenize(Reader reader, ForkJoinPool pool)
+        throws IOException {
+        ByteBuffer in = BaseScanner.bytesOf(reader);
+        int parts = Math.min(in.remaining() / MIN_PART,
+                             4 * pool.getParallelism());
+        return tokenize(in, pool, Math.max(parts, 1));
+    }
+
+    /***
+     * Tokenize the bytes of in (from its position to its limit), in (at
+     * most) the given number of parts, using pool.
+     ***/
+    static TokenBuffer tokenize(final ByteBuffer in, ForkJoinPool pool,
+                                int parts) {
+        final int[] bounds = split(in, parts);
+        parts = bounds.length - 1;
+
+        // 1. count the line ends in each part
+        List<Callable<Integer>> counts = new ArrayList<Callable<Integer>>();
+        for (int k = 0; k < parts; k++) {
+            final int from = bounds[k];
+            final int to = bounds[k + 1];
+            counts.add(new Callable<Integer>() {
+                public Integer call() {
+                    return countLineEnds(in, from, to);
+                }
+            });
+        }
+        int[] startLines = new int[parts];
+        int line = 1;
+        List<Future<Integer>> lineEnds = pool.invokeAll(counts);
+        for (int k = 0; k < parts; k++) {
+            startLines[k] = line;
+            line += get(lineEnds.get(k));
+        }
+
+        // 2. scan each part
+        List<Callable<TokenBuffer>> scans =
+            new ArrayList<Callable<TokenBuffer>>();
+        for (int k = 0; k < parts; k++) {
+            final ByteBuffer part = in.duplicate();
+            part.limit(bounds[k + 1]).position(bounds[k]);
+            final int startLine = startLines[k];
+            scans.add(new Callable<TokenBuffer>() {
+                public TokenBuffer call() {
+                    return new BaseScanner(part, startLine)
+                           .tokenizeQuietly();
+                }
+            });
+        }
+        List<Future<TokenBuffer>> scanned = pool.invokeAll(scans);
+
+        // 3. put the parts together
+        TokenBuffer tokens = new TokenBuffer(new BaseScanner(in.duplicate()));
+        NameTable names = tokens.names();
+        for (int k = 0; k < parts && !tokens.failed(); k++) {
+            TokenBuffer part = get(scanned.get(k));
+            NameTable partNames = part.names();
+            int[] idMap = new int[partNames.size()];
+            for (int id = 0; id < idMap.length; id++) {
+                idMap[id] = names.intern(partNames.name(id));
+            }
+            tokens.append(part, idMap, k == parts - 1);
+        }
+        if (Stats.enabled) {
+            Stats.count(Stats.TOKENS, tokens.numTokens());
+        }
+        return tokens;
+    }
+
+    /***
+     * Return the bounds of (at most) the given number of parts of in,
+     * each (but the first) starting just after a newline: part k is from
+     * bounds[k] to bounds[k + 1].
+     ***/
+    private static int[] split(ByteBuffer in, int parts) {
+        int start = in.position();
+        int end = in.limit();
+        int[] bounds = new int[parts + 1];
+        int n = 0;
+        bounds[n++] = start;
+        for (int k = 1; k < parts; k++) {
+            int b = (int)(start + (long)(end - start) * k / parts);
+            b = Math.max(b, bounds[n - 1]);
+            while (b < end && (b == start || in.get(b - 1) != '\n')) {
+                b++;
+            }
+            if (b < end && b > bounds[n - 1]) {
+                bounds[n++] = b;
+            }
+        }
+        bounds[n++] = end;
+        return Arrays.copyOf(bounds, n);
+    }
+
+    /***
+     * Return the number of line ends (as BaseScanner counts them: '\r',
+     * '\n', or "\r\n") from one place in in to another.
+     ***/
+    private static int countLineEnds(ByteBuffer in, int from, int to) {
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            byte b = in.get(i);
+            if (b == '\r') {
+                n++;
+            } else if (b == '\n' && (i == in.position() ||
+                                     in.get(i - 1) != '\r')) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    // the result of a task that cannot be interrupted or throw
+    private static <T> T get(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException("Unexpected InterruptedException " +
+                                            " in ParallelTokenizer");
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Unexpected exception " +
+                                            ex.getCause() +
+                                            " in ParallelTokenizer");
+        }
+    }
+}
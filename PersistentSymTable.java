@@ -0,0 +1,300 @@
+import java.util.*;
+
+/***
+ * The PersistentSymTable class is a SymTable implementation built on
+ * immutable versions (Snapshots).  Each operation on a Snapshot returns a
+ * new Snapshot and leaves the old one valid, sharing all but a few nodes
+ * with it, so a Snapshot can be handed to any number of threads, each of
+ * which can go on declaring names and adding scopes without locking or
+ * copying.
+ *
+ * A Snapshot maps each id to a stack of bindings (innermost first), held in
+ * a hash array mapped trie keyed on the id.  Adding a scope just remembers
+ * the version it was added to, so removing it again is O(1).
+ *
+ * The PersistentSymTable itself is a mutable SymTable (for use by the
+ * AST's nameAnalysis methods) that keeps track of its current Snapshot.
+ ***/
+public class PersistentSymTable extends SymTable {
+    private Snapshot current;
+
+    /***
+     * A new table with one (empty) scope.
+     ***/
+    public PersistentSymTable() {
+        current = Snapshot.EMPTY;
+    }
+
+    /***
+     * A new table starting out as the given version.  Changes to the new
+     * table do not affect start, or other tables made from it.
+     ***/
+    public PersistentSymTable(Snapshot start) {
+        current = start;
+    }
+
+    /***
+     * Return the current version of this table.
+     ***/
+    public Snapshot snapshot() {
+        return current;
+    }
+
+    public void addDecl(int id, Sym sym)
+    throws DuplicateSymNameException, EmptySymTableException {
+        current = current.addDecl(id, sym);
+        place(sym, current.depth);
+    }
+
+    public Sym declare(int id, Sym sym) {
+        if (id < 0 || sym == null)
+            throw new IllegalArgumentException();
+
+        if (current.depth < 0)
+            throw new IllegalStateException("declare in an empty SymTable");
+
+        if (Stats.enabled) Stats.count(Stats.LOOKUPS);
+        Binding head = current.root.get(id);
+        if (head != null && head.depth == current.depth)
+            return head.sym;
+
+        current = current.bind(id, sym, head);
+        place(sym, current.depth);
+        return null;
+    }
+
+    public void addScope() {
+        if (Stats.enabled) Stats.count(Stats.SCOPES);
+        current = current.addScope();
+        openFrameScope(current.depth);
+    }
+
+    public Sym lookupLocal(int id)
+    throws EmptySymTableException {
+        if (Stats.enabled) Stats.count(Stats.LOOKUPS);
+        return current.lookupLocal(id);
+    }
+
+    public Sym lookupGlobal(int id)
+    throws EmptySymTableException {
+        if (Stats.enabled) Stats.count(Stats.LOOKUPS);
+        return current.lookupGlobal(id);
+    }
+
+    public void removeScope()
+    throws EmptySymTableException {
+        closeFrameScope(current.depth);
+        current = current.removeScope();
+    }
+
+    // globals are numbered by the Snapshot, so that tables made from the
+    // same Snapshot carry on with the same numbering
+    protected void place(Sym sym, int depth) {
+        if (depth == 0) {
+            sym.setAddress(0, current.numGlobals - 1);
+        } else {
+            super.place(sym, depth);
+        }
+    }
+
+    public void print(NameTable names) {
+        System.out.print("\n++++ SYMBOL TABLE\n");
+        for (Snapshot s = current; s != null; s = s.outer) {
+            Map<Integer, Sym> scope = new TreeMap<Integer, Sym>();
+            s.root.collect(s.depth, scope);
+            Map<String, Sym> symTab = new HashMap<String, Sym>();
+            for (Map.Entry<Integer, Sym> e : scope.entrySet()) {
+                symTab.put(names.name(e.getKey()), e.getValue());
+            }
+            System.out.println(symTab.toString());
+        }
+        System.out.println("\n++++ END TABLE");
+    }
+
+    /***
+     * An immutable version of a symbol table.
+     ***/
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Node.EMPTY, 0, 0, null);
+
+        private final Node root;        // bindings of every visible name
+        private final int depth;        // of the innermost scope
+        private final int numGlobals;   // names declared at depth 0
+        private final Snapshot outer;   // the version before addScope
+
+        private Snapshot(Node root, int depth, int numGlobals,
+                         Snapshot outer) {
+            this.root = root;
+            this.depth = depth;
+            this.numGlobals = numGlobals;
+            this.outer = outer;
+        }
+
+        /***
+         * Return this version with sym declared as id in the innermost
+         * scope.
+         ***/
+        public Snapshot addDecl(int id, Sym sym)
+        throws DuplicateSymNameException, EmptySymTableException {
+            if (id < 0 || sym == null)
+                throw new IllegalArgumentException();
+
+            if (depth < 0)
+                throw new EmptySymTableException();
+
+            Binding head = root.get(id);
+            if (head != null && head.depth == depth)
+                throw new DuplicateSymNameException();
+
+            return bind(id, sym, head);
+        }
+
+        // return this version with sym declared as id in the innermost
+        // scope, where head is id's current binding
+        private Snapshot bind(int id, Sym sym, Binding head) {
+            Node newRoot = root.put(id, new Binding(sym, depth, head), 0);
+            return new Snapshot(newRoot, depth,
+                                numGlobals + (depth == 0 ? 1 : 0), outer);
+        }
+
+        /***
+         * Return this version with a new (empty) innermost scope.
+         ***/
+        public Snapshot addScope() {
+            return new Snapshot(root, depth + 1, numGlobals, this);
+        }
+
+        /***
+         * Return this version without its innermost scope.
+         ***/
+        public Snapshot removeScope()
+        throws EmptySymTableException {
+            if (depth < 0)
+                throw new EmptySymTableException();
+            if (outer == null)  // the outermost scope: nothing left
+                return new Snapshot(Node.EMPTY, -1, numGlobals, null);
+            return outer;
+        }
+
+        public Sym lookupLocal(int id)
+        throws EmptySymTableException {
+            if (depth < 0)
+                throw new EmptySymTableException();
+            Binding head = root.get(id);
+            if (head == null || head.depth != depth)
+                return null;
+            return head.sym;
+        }
+
+        public Sym lookupGlobal(int id)
+        throws EmptySymTableException {
+            if (depth < 0)
+                throw new EmptySymTableException();
+            Binding head = root.get(id);
+            return (head == null) ? null : head.sym;
+        }
+    }
+
+    // one binding of a name; next is the binding it shadows (if any)
+    private static final class Binding {
+        final Sym sym;
+        final int depth;
+        final Binding next;
+
+        Binding(Sym sym, int depth, Binding next) {
+            this.sym = sym;
+            this.depth = depth;
+            this.next = next;
+        }
+    }
+
+    // a leaf of the trie: the bindings of one id
+    private static final class Leaf {
+        final int id;
+        final Binding head;
+
+        Leaf(int id, Binding head) {
+            this.id = id;
+            this.head = head;
+        }
+    }
+
+    /***
+     * A node of the hash array mapped trie.  Each level uses 5 bits of the
+     * id (lowest bits first); bitmap says which of the 32 children are
+     * there, and children holds them (Nodes or Leafs) in order.
+     ***/
+    private static final class Node {
+        static final Node EMPTY = new Node(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] children;
+
+        Node(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        Binding get(int id) {
+            Node node = this;
+            for (int shift = 0; ; shift += 5) {
+                if (Stats.enabled) Stats.count(Stats.PROBES);
+                int bit = 1 << ((id >>> shift) & 31);
+                if ((node.bitmap & bit) == 0)
+                    return null;
+                Object child =
+                    node.children[Integer.bitCount(node.bitmap & (bit - 1))];
+                if (child instanceof Leaf) {
+                    Leaf leaf = (Leaf)child;
+                    return (leaf.id == id) ? leaf.head : null;
+                }
+                node = (Node)child;
+            }
+        }
+
+        // return a copy of this node (at the given shift) with the bindings
+        // of id replaced by head
+        Node put(int id, Binding head, int shift) {
+            int bit = 1 << ((id >>> shift) & 31);
+            int index = Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = new Leaf(id, head);
+                System.arraycopy(children, index, newChildren, index + 1,
+                                 children.length - index);
+                return new Node(bitmap | bit, newChildren);
+            }
+
+            Object child = children[index];
+            Object newChild;
+            if (child instanceof Node) {
+                newChild = ((Node)child).put(id, head, shift + 5);
+            } else if (((Leaf)child).id == id) {
+                newChild = new Leaf(id, head);
+            } else {  // two ids share this child: push both down a level
+                Leaf leaf = (Leaf)child;
+                newChild = EMPTY.put(leaf.id, leaf.head, shift + 5)
+                                .put(id, head, shift + 5);
+            }
+            Object[] newChildren = children.clone();
+            newChildren[index] = newChild;
+            return new Node(bitmap, newChildren);
+        }
+
+        // add the Syms declared at the given depth to map
+        void collect(int depth, Map<Integer, Sym> map) {
+            for (Object child : children) {
+                if (child instanceof Node) {
+                    ((Node)child).collect(depth, map);
+                } else {
+                    Leaf leaf = (Leaf)child;
+                    for (Binding b = leaf.head; b != null; b = b.next) {
+                        if (b.depth == depth)
+                            map.put(leaf.id, b.sym);
+                    }
+                }
+            }
+        }
+    }
+}
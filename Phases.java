@@ -0,0 +1,65 @@
+import java.io.*;
+import java_cup.runtime.*;
+
+/****
+ * Phases gives access to each phase of the compiler on its own, for code
+ * outside the default package (such as the JMH benchmarks in bench/, which
+ * JMH requires to be in a named package).  Programs are passed around as
+ * Objects; each is the ProgramNode at the root of an AST.
+ *
+ * Errors are reported through ErrMsg as usual.
+ ****/
+
+public class Phases {
+    /***
+     * Scan the given source code and return the number of tokens in it.
+     ***/
+    public static int lex(String source) throws IOException {
+        Yylex scanner = new Yylex(new StringReader(source));
+        int numTokens = 0;
+        while (scanner.next_token().sym != sym.EOF) {
+            numTokens++;
+        }
+        return numTokens;
+    }
+
+    /***
+     * Parse the given source code and return its AST.
+     ***/
+    public static Object parse(String source) throws Exception {
+        parser P = new parser(new Yylex(new StringReader(source)));
+        return P.parse().value;
+    }
+
+    /***
+     * Do name analysis on a program returned by parse.
+     ***/
+    public static void nameAnalysis(Object program) {
+        ((ProgramNode)program).nameAnalysis();
+    }
+
+    /***
+     * Type check a program returned by parse, after name analysis.  Each
+     * program can only be type checked once (the types are cached in the
+     * AST).
+     ***/
+    public static void checkType(Object program) {
+        ((ProgramNode)program).checkType();
+    }
+
+    /***
+     * Unparse a program returned by parse to out.
+     ***/
+    public static void unparse(Object program, Writer out) {
+        PrintWriter p = new UnparseWriter(out);
+        ((ProgramNode)program).unparse(p, 0);
+        p.flush();
+    }
+
+    /***
+     * Return true if any errors have been reported on this thread.
+     ***/
+    public static boolean hadErrors() {
+        return ErrMsg.getErr();
+    }
+}
@@ -0,0 +1,170 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java_cup.runtime.Symbol;
+
+/****
+ * ScannerDiff checks that BaseScanner (the hand-written scanner) gives the
+ * same tokens and messages as Yylex (the JLex one).
+ *
+ *     java ScannerDiff [--random=N] [--seed=S] [--chunks=C] file...
+ *
+ * scans each file with both scanners, and with --random=N, also N random
+ * inputs (made from the given seed) full of the awkward cases: keywords
+ * run into identifiers, huge integers, strings with good, bad and
+ * unterminated escapes, comments, '\r's and illegal characters.  For each
+ * token, the kind, line and character numbers and value must be the same,
+ * and so must the messages (and anything printed or thrown).  With
+ * --chunks=C, the tokens are instead read from a TokenBuffer made by
+ * ParallelTokenizer in (up to) C parts, however small the input.  The
+ * first difference found is printed, and the exit status is 1 if there
+ * was one.
+ ****/
+
+public class ScannerDiff {
+    private static final String[] FRAGMENTS =
+        {"void", "voids", "logical", "integer", "True", "False", "tuple",
+         "read", "write", "if", "else", "while", "return", "x", "_y1", "Ab_9",
+         "0", "42", "2147483647", "2147483648", "99999999999999999999",
+         "007", "\"", "\"abc\"", "\"a\\nb\\tc\\'d\\\"e\\\\f\\s\"", "\\",
+         "\\q", "\\?", "\\n", "\\s", "\\\"", "\"bad\\q\"", "\"open",
+         "\"x\\", "!!", "!", "$", "!! comment", "$ comment", "\n", "\r",
+         "\r\n", " ", "\t", "  ", "{", "}", "(", ")", "[", "]", ":", ",",
+         ".", ">>", "<<", "=", "==", "~", "~=", "&", "|", "++", "--", "+",
+         "-", "*", "/", "<", ">", "<=", ">=", "@", "#", "%", "^", "'", "?",
+         ";", "\f", "\0", "\u007f"};
+
+    public static void main(String[] args) throws Exception {
+        int random = 0;
+        long seed = 1;
+        int chunks = 0;
+        int argNum = 0;
+        while (argNum < args.length && args[argNum].startsWith("--")) {
+            String option = args[argNum];
+            if (option.startsWith("--random=")) {
+                random = Integer.parseInt(option.substring(9));
+            } else if (option.startsWith("--seed=")) {
+                seed = Long.parseLong(option.substring(7));
+            } else if (option.startsWith("--chunks=")) {
+                chunks = Integer.parseInt(option.substring(9));
+            } else {
+                System.err.println("unknown option " + option);
+                System.exit(-1);
+            }
+            argNum++;
+        }
+
+        int checked = 0;
+        for (int k = argNum; k < args.length; k++) {
+            java_cup.runtime.Scanner jlex = new Yylex(new FileReader(args[k]));
+            java_cup.runtime.Scanner hand =
+                handScanner(new MappedReader(args[k]).bytes(), chunks);
+            if (!same(args[k], jlex, hand)) {
+                System.exit(1);
+            }
+            checked++;
+        }
+
+        Random rand = new Random(seed);
+        for (int k = 0; k < random; k++) {
+            String input = randomInput(rand);
+            java_cup.runtime.Scanner jlex = new Yylex(new StringReader(input));
+            java_cup.runtime.Scanner hand = handScanner(ByteBuffer.wrap(
+                               input.getBytes(StandardCharsets.ISO_8859_1)),
+                               chunks);
+            if (!same("random input " + k + ":\n" + input, jlex, hand)) {
+                System.exit(1);
+            }
+            checked++;
+        }
+        System.out.println(checked + " inputs scanned the same");
+    }
+
+    // a BaseScanner for in, or with chunks, a TokenBuffer's scanner
+    private static java_cup.runtime.Scanner handScanner(ByteBuffer in,
+                                                        int chunks) {
+        if (chunks == 0) {
+            return new BaseScanner(in);
+        }
+        return ParallelTokenizer.tokenize(in, ForkJoinPool.commonPool(),
+                                          chunks).scanner();
+    }
+
+    // a random mix of fragments
+    private static String randomInput(Random rand) {
+        StringBuilder sb = new StringBuilder();
+        int n = 1 + rand.nextInt(40);
+        for (int i = 0; i < n; i++) {
+            sb.append(FRAGMENTS[rand.nextInt(FRAGMENTS.length)]);
+        }
+        return sb.toString();
+    }
+
+    /***
+     * Scan to the end with both scanners; return true if the tokens and
+     * messages are the same, and otherwise print the first difference.
+     ***/
+    private static boolean same(String name, java_cup.runtime.Scanner jlex, java_cup.runtime.Scanner hand)
+        throws Exception {
+        for (int n = 1; ; n++) {
+            Symbol[] expected = new Symbol[1];
+            Symbol[] actual = new Symbol[1];
+            String e = nextToken(jlex, expected);
+            String a = nextToken(hand, actual);
+            if (!e.equals(a)) {
+                System.out.println(name);
+                System.out.println("token " + n + ": Yylex gives");
+                System.out.print(e);
+                System.out.println("but BaseScanner gives");
+                System.out.print(a);
+                return false;
+            }
+            if (expected[0] == null || expected[0].sym == sym.EOF) {
+                return true;
+            }
+        }
+    }
+
+    /***
+     * Get the next token from scanner, putting it in token[0] (or null if
+     * something is thrown), and return a description of it with the
+     * messages reported and anything printed or thrown on the way.
+     ***/
+    private static String nextToken(java_cup.runtime.Scanner scanner, Symbol[] token) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(printed));
+        ErrMsg.startCapture();
+        String s;
+        try {
+            token[0] = scanner.next_token();
+            s = describe(token[0]);
+        } catch (Throwable ex) {
+            token[0] = null;
+            s = "threw " + ex;
+        } finally {
+            System.setOut(out);
+        }
+        return s + "\n" + ErrMsg.endCapture() + printed;
+    }
+
+    // the kind, position and value of a token
+    private static String describe(Symbol token) {
+        String s = sym.terminalNames[token.sym];
+        if (!(token.value instanceof TokenVal)) {
+            return s;
+        }
+        TokenVal val = (TokenVal)token.value;
+        s += " " + val.lineNum + ":" + val.charNum;
+        if (val instanceof IdTokenVal) {
+            s += " " + ((IdTokenVal)val).idVal + " #" + ((IdTokenVal)val).id;
+        } else if (val instanceof IntLitTokenVal) {
+            s += " " + ((IntLitTokenVal)val).intVal;
+        } else if (val instanceof StrLitTokenVal) {
+            s += " " + ((StrLitTokenVal)val).strVal;
+        }
+        return s;
+    }
+}
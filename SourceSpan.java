@@ -0,0 +1,50 @@
+import java.nio.*;
+
+/***
+ * The SourceSpan class is the text of a token as the bytes of the input it
+ * was scanned from (each byte being one char, as in ISO-8859-1), so that
+ * BaseScanner can give string literals a value without copying them.  A
+ * String is only made if toString is called; unparsing to an
+ * UnparseWriter (which appends a CharSequence a char at a time) does not.
+ *
+ * A span keeps its input's buffer alive, as long as the AST holds it.
+ ***/
+class SourceSpan implements CharSequence {
+    private ByteBuffer in;
+    private int start;
+    private int length;
+
+    SourceSpan(ByteBuffer in, int start, int length) {
+        this.in = in;
+        this.start = start;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public char charAt(int i) {
+        if (i < 0 || i >= length) {
+            throw new IndexOutOfBoundsException("index " + i + ", length " +
+                                                length);
+        }
+        return (char)(in.get(start + i) & 0xff);
+    }
+
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("from " + from + ", to " +
+                                                to + ", length " + length);
+        }
+        return new SourceSpan(in, start + from, to - from);
+    }
+
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char)(in.get(start + i) & 0xff);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,278 @@
+import java.io.*;
+import java.lang.management.*;
+import java_cup.runtime.*;
+
+/****
+ * Stats records counters for each phase of the compiler (the --stats option
+ * of P5): wall time, bytes allocated, tokens scanned, AST nodes built,
+ * symbol-table lookups, probes and scopes, and diagnostics reported.
+ *
+ * Like ErrMsg's messages, a Stats belongs to the thread doing the
+ * compilation (see begin and end).  Code that counts something does
+ *     if (Stats.enabled) Stats.count(Stats.LOOKUPS);
+ * so when stats are off, all that is left is the test of one static field.
+ *
+ * Phases can be nested (lexing happens in the middle of parsing); the time
+ * and memory spent in the inner phase are not counted in the outer one.
+ * The tasks of parallel name analysis and type checking count on their
+ * own pool threads (see beginTask) and are added to the compiling
+ * thread's counts when they are joined.
+ ****/
+
+class Stats {
+    // phases
+    static final int LEX = 0;
+    static final int PARSE = 1;
+    static final int NAME_ANALYSIS = 2;
+    static final int CHECK_TYPE = 3;
+    static final int UNPARSE = 4;
+    private static final String[] PHASE_NAMES =
+        {"lex", "parse", "nameAnalysis", "checkType", "unparse"};
+
+    // counters
+    static final int TIME = 0;           // nanoseconds
+    static final int ALLOCATED = 1;      // bytes
+    static final int TOKENS = 2;
+    static final int NODES = 3;
+    static final int LOOKUPS = 4;
+    static final int PROBES = 5;         // hash-table slots or scopes examined
+    static final int SCOPES = 6;
+    static final int DIAGNOSTICS = 7;
+    private static final String[] COUNTER_NAMES =
+        {"timeNanos", "allocatedBytes", "tokens", "astNodes", "lookups",
+         "probes", "scopes", "diagnostics"};
+
+    // true if anything is being counted
+    static boolean enabled = false;
+
+    private static final ThreadLocal<Stats> current = new ThreadLocal<Stats>();
+
+    private static final com.sun.management.ThreadMXBean threads =
+        allocationBean();
+
+    private long[][] counts = new long[PHASE_NAMES.length][COUNTER_NAMES.length];
+    private int phase = -1;     // the phase being counted (-1 if none)
+    private int outerPhase = -1; // the phase it is nested in (-1 if none)
+    private long startTime;     // when the current phase (last) started
+    private long startAllocated;
+    private int startMsgs;
+
+    /***
+     * Start counting for the current thread, and turn stats on.
+     ***/
+    static Stats begin() {
+        enabled = true;
+        Stats stats = new Stats();
+        current.set(stats);
+        return stats;
+    }
+
+    /***
+     * Stop counting for the current thread, and return what was counted.
+     ***/
+    static Stats end() {
+        Stats stats = current.get();
+        current.remove();
+        return stats;
+    }
+
+    /***
+     * Start counting, in the given phase, for a task that a compiling
+     * thread has given to a pool thread.  Return null (and count nothing
+     * here) if stats are off, or if this thread is counting already (as
+     * when the compiling thread runs a task itself): the task's counts
+     * then go to this thread's Stats.
+     ***/
+    static Stats beginTask(int phase) {
+        if (!enabled || current.get() != null) {
+            return null;
+        }
+        Stats stats = new Stats();
+        current.set(stats);
+        startPhase(phase);
+        return stats;
+    }
+
+    /***
+     * Stop counting for a task started by beginTask (if it returned
+     * non-null).
+     ***/
+    static void endTask(Stats task) {
+        if (task != null) {
+            endPhase();
+            current.remove();
+        }
+    }
+
+    /***
+     * Add the counts of a task (from beginTask, once it has been joined)
+     * to the current thread's.  Its time and diagnostics are left out: the
+     * time of the phase is that of the thread waiting for the task, and
+     * the task's messages are counted when they are replayed.
+     ***/
+    static void addTask(Stats task) {
+        Stats stats = current.get();
+        if (stats == null || task == null) {
+            return;
+        }
+        for (int p = 0; p < task.counts.length; p++) {
+            for (int c = 0; c < task.counts[p].length; c++) {
+                if (c != TIME && c != DIAGNOSTICS) {
+                    stats.counts[p][c] += task.counts[p][c];
+                }
+            }
+        }
+    }
+
+    /***
+     * Count one of the given counter in the current phase.
+     ***/
+    static void count(int counter) {
+        count(counter, 1);
+    }
+
+    static void count(int counter, long n) {
+        Stats stats = current.get();
+        if (stats != null && stats.phase >= 0) {
+            stats.counts[stats.phase][counter] += n;
+        }
+    }
+
+    /***
+     * Start the given phase on the current thread.  If another phase is
+     * going on, it is suspended until endPhase.
+     ***/
+    static void startPhase(int phase) {
+        Stats stats = current.get();
+        if (stats == null) {
+            return;
+        }
+        if (stats.phase >= 0) {
+            stats.stopClock();
+        }
+        stats.outerPhase = stats.phase;
+        stats.phase = phase;
+        stats.startClock();
+    }
+
+    /***
+     * End the current phase on the current thread, resuming the phase it
+     * was nested in (if any).
+     ***/
+    static void endPhase() {
+        Stats stats = current.get();
+        if (stats == null || stats.phase < 0) {
+            return;
+        }
+        stats.stopClock();
+        stats.phase = stats.outerPhase;
+        stats.outerPhase = -1;
+        if (stats.phase >= 0) {
+            stats.startClock();
+        }
+    }
+
+    private void startClock() {
+        startMsgs = ErrMsg.getNumMsgs();
+        startAllocated = allocated();
+        startTime = System.nanoTime();
+    }
+
+    private void stopClock() {
+        long[] c = counts[phase];
+        c[TIME] += System.nanoTime() - startTime;
+        c[ALLOCATED] += allocated() - startAllocated;
+        c[DIAGNOSTICS] += ErrMsg.getNumMsgs() - startMsgs;
+    }
+
+    private static long allocated() {
+        return (threads == null) ? 0 : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean)bean;
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+
+    /***
+     * Return a scanner that gives the tokens of scanner, counting them (and
+     * the time spent getting them) in the lex phase.
+     ***/
+    static Scanner countTokens(final Scanner scanner) {
+        return new Scanner() {
+            public Symbol next_token() throws Exception {
+                startPhase(LEX);
+                try {
+                    Symbol token = scanner.next_token();
+                    if (token.sym != sym.EOF) {
+                        count(TOKENS);
+                    }
+                    return token;
+                } finally {
+                    endPhase();
+                }
+            }
+        };
+    }
+
+    /***
+     * Add the counts in other to these (used to total a batch).
+     ***/
+    synchronized void add(Stats other) {
+        for (int p = 0; p < counts.length; p++) {
+            for (int c = 0; c < counts[p].length; c++) {
+                counts[p][c] += other.counts[p][c];
+            }
+        }
+    }
+
+    /***
+     * Print a table of the counts to p.
+     ***/
+    synchronized void print(PrintStream p) {
+        p.printf("%-14s", "");
+        for (String name : COUNTER_NAMES) {
+            p.printf(" %14s", name);
+        }
+        p.println();
+        long[] total = new long[COUNTER_NAMES.length];
+        for (int ph = 0; ph < counts.length; ph++) {
+            p.printf("%-14s", PHASE_NAMES[ph]);
+            for (int c = 0; c < counts[ph].length; c++) {
+                p.printf(" %14d", counts[ph][c]);
+                total[c] += counts[ph][c];
+            }
+            p.println();
+        }
+        p.printf("%-14s", "total");
+        for (long count : total) {
+            p.printf(" %14d", count);
+        }
+        p.println();
+    }
+
+    /***
+     * Write the counts to out as a JSON object with a member for each
+     * phase, e.g. {"lex": {"timeNanos": 1234, ...}, ...}.
+     ***/
+    synchronized void writeJson(Writer out) throws IOException {
+        out.write("{\n");
+        for (int ph = 0; ph < counts.length; ph++) {
+            out.write("  \"" + PHASE_NAMES[ph] + "\": {");
+            for (int c = 0; c < counts[ph].length; c++) {
+                out.write((c > 0 ? ", \"" : "\"") + COUNTER_NAMES[c] + "\": " +
+                          counts[ph][c]);
+            }
+            out.write(ph < counts.length - 1 ? "},\n" : "}\n");
+        }
+        out.write("}\n");
+    }
+}
@@ -2,10 +2,15 @@ import java.util.*;
 
 /***
  * The Sym class defines a symbol-table entry. 
- * Each Sym contains a type (a Type).
+ * Each Sym contains a type (a Type), and the lexical address given to it
+ * by the SymTable it was added to: the depth of the scope it was declared
+ * in (0 for globals), and its slot, which is its index among the globals
+ * (at depth 0) or in the frame of its function (at depth 1 and below).
  ***/
 public class Sym { 
 	private Type type;
+	private int depth = -1;
+	private int slot = -1;
 	
 	public Sym(Type type) {
 		this.type = type;
@@ -14,6 +19,19 @@ public class Sym {
 	public Type getType() {
 		return type;
 	}
+
+	public void setAddress(int depth, int slot) {
+		this.depth = depth;
+		this.slot = slot;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public int getSlot() {
+		return slot;
+	}
 	
 	public String toString() {
 		return type.toString();
@@ -24,21 +42,38 @@ public class Sym {
  * The FctnSym class is a subclass of the Sym class just for functions.
  * The returnType field holds the return type and there are fields to hold
  * information about the parameters.
+ *
+ * The parameter types (the signature) are kept in an array that is not
+ * changed once addFormals has been called, so its hash and its string form
+ * (e.g. "integer,logical->void", printed for every use of the function
+ * when unparsing) are only worked out once.
  ***/
 class FctnSym extends Sym {
+    private static final Type[] NO_PARAMS = new Type[0];
+
     // new fields
     private Type returnType;
-    private int numParams;
-    private List<Type> paramTypes;
+    private int arity;                      // number of formals declared
+    private Type[] signature = NO_PARAMS;   // types of the good formals
+    private int hash;
+    private String signatureString;         // made by toString, if called
+    private int frameSize;
     
     public FctnSym(Type type, int numparams) {
-        super(new FctnType());
+        super(Type.FCTN);
         returnType = type;
-        numParams = numparams;
+        arity = numparams;
+        hash = returnType.hashCode();
     }
 
     public void addFormals(List<Type> L) {
-        paramTypes = L;
+        signature = L.toArray(new Type[L.size()]);
+        int h = returnType.hashCode();
+        for (Type type : signature) {
+            h = 31 * h + type.hashCode();
+        }
+        hash = h;
+        signatureString = null;
     }
     
     public Type getReturnType() {
@@ -46,26 +81,46 @@ class FctnSym extends Sym {
     }
 
     public int getNumParams() {
-        return numParams;
+        return arity;
+    }
+
+    /***
+     * Return the type of the i-th formal.
+     ***/
+    public Type getParamType(int i) {
+        return signature[i];
     }
 
-    public List<Type> getParamTypes() {
-        return paramTypes;
+    public void setFrameSize(int size) {
+        frameSize = size;
+    }
+
+    /***
+     * Return the number of slots needed for the formals and locals.
+     ***/
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    // worked out from the signature when it is set
+    public int hashCode() {
+        return hash;
     }
 
     public String toString() {
-        // make list of formals
-        String str = "";
-        boolean notfirst = false;
-        for (Type type : paramTypes) {
-            if (notfirst)
-                str += ",";
-            else
-                notfirst = true;
-            str += type.toString();
+        String str = signatureString;
+        if (str == null) {
+            // make list of formals
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < signature.length; i++) {
+                if (i > 0)
+                    sb.append(',');
+                sb.append(signature[i].toString());
+            }
+            sb.append("->").append(returnType.toString());
+            str = sb.toString();
+            signatureString = str;
         }
-
-        str += "->" + returnType.toString();
         return str;
     }
 }
@@ -80,8 +135,9 @@ class TupleSym extends Sym {
     // new fields
     private IdNode tupleType;  // name of the tuple type
     
+    // id must be linked to the TupleDefSym of the tuple type
     public TupleSym(IdNode id) {
-        super(new TupleType(id));
+        super(((TupleDefSym)id.sym()).getTupleType());
         tupleType = id;
     }
 
@@ -99,13 +155,53 @@ class TupleSym extends Sym {
 class TupleDefSym extends Sym {
     // new fields
     private SymTable symTab;
+    private int[] offsets;  // flattened offset of each field, by its slot
+    private int size;       // number of non-tuple fields, when flattened
+    private Type tupleType; // the type of variables of this tuple type
     
-    public TupleDefSym(SymTable table) {
-        super(new TupleDefType());
+    public TupleDefSym(SymTable table, String name) {
+        super(Type.TUPLE_DEF);
         symTab = table;
+        tupleType = new TupleType(name);
+    }
+
+    public Type getTupleType() {
+        return tupleType;
     }
 
     public SymTable getSymTable() {
         return symTab;
     }
+
+    /***
+     * Lay out the fields (the Syms in symTab, given in the order of their
+     * slots): a tuple is flattened into its non-tuple fields, so each
+     * non-tuple field takes one place, and each tuple field as many as its
+     * tuple type's size.
+     ***/
+    public void setLayout(List<Sym> fields) {
+        offsets = new int[fields.size()];
+        size = 0;
+        for (Sym field : fields) {
+            offsets[field.getSlot()] = size;
+            if (field instanceof TupleSym) {
+                Sym def = ((TupleSym)field).getTupleType().sym();
+                size += ((TupleDefSym)def).getSize();
+            } else {
+                size++;
+            }
+        }
+    }
+
+    /***
+     * Return the offset of the field with the given slot in a flattened
+     * tuple of this type.
+     ***/
+    public int getOffset(int slot) {
+        return offsets[slot];
+    }
+
+    public int getSize() {
+        return size;
+    }
 }
@@ -1,66 +1,236 @@
 import java.util.*;
 
+/***
+ * The SymTable class maps names to Syms, with a list of scopes (innermost
+ * first).  Names are given by their ids in the program's NameTable.
+ *
+ * Each Sym added is also given its lexical address (see Sym.getDepth and
+ * Sym.getSlot): the names declared in the outermost scope are numbered in
+ * order, and so are the names declared in each function (its formals and
+ * locals, in the scopes at depth 1 and below), with the slots of a nested
+ * scope used again once it has been removed.
+ ***/
 public class SymTable {
-	private List<HashMap<String, Sym>> list;
-	
+	private List<Scope> list;
+
+	// for lexical addresses
+	private int numGlobals;                   // slots used at depth 0
+	private int nextSlot;                     // next slot in the frame
+	private int frameSize;                    // slots used in the frame
+	private int[] frameMarks = new int[16];   // nextSlot when each scope
+	                                          // was added
+
 	public SymTable() {
-		list = new LinkedList<HashMap<String, Sym>>();
-		list.add(new HashMap<String, Sym>());
+		list = new LinkedList<Scope>();
+		list.add(new Scope());
 	}
-	
-	public void addDecl(String name, Sym sym) 
+
+	public void addDecl(int id, Sym sym)
 	throws DuplicateSymNameException, EmptySymTableException {
-		if (name == null || sym == null)
+		if (id < 0 || sym == null)
 			throw new IllegalArgumentException();
-		
+
 		if (list.isEmpty())
 			throw new EmptySymTableException();
-		
-		HashMap<String, Sym> symTab = list.get(0);
-		if (symTab.containsKey(name))
+
+		Scope symTab = list.get(0);
+		if (symTab.get(id) != null)
 			throw new DuplicateSymNameException();
-		
-		symTab.put(name, sym);
+
+		symTab.put(id, sym);
+		place(sym, list.size() - 1);
+	}
+
+	/***
+	 * Declare id as sym in the innermost scope, unless id is already
+	 * declared there.  Returns the Sym id is already declared as, or null
+	 * if sym was added.  Unlike lookupLocal followed by addDecl, this only
+	 * looks for id once.
+	 ***/
+	public Sym declare(int id, Sym sym) {
+		if (id < 0 || sym == null)
+			throw new IllegalArgumentException();
+
+		if (list.isEmpty())
+			throw new IllegalStateException("declare in an empty SymTable");
+
+		if (Stats.enabled) {
+			Stats.count(Stats.LOOKUPS);
+			Stats.count(Stats.PROBES);
+		}
+		Sym old = list.get(0).putIfAbsent(id, sym);
+		if (old == null)
+			place(sym, list.size() - 1);
+		return old;
 	}
-	
+
 	public void addScope() {
-		list.add(0, new HashMap<String, Sym>());
+		if (Stats.enabled) Stats.count(Stats.SCOPES);
+		list.add(0, new Scope());
+		openFrameScope(list.size() - 1);
 	}
-	
-	public Sym lookupLocal(String name) 
+
+	public Sym lookupLocal(int id)
 	throws EmptySymTableException {
 		if (list.isEmpty())
 			throw new EmptySymTableException();
-		
-		HashMap<String, Sym> symTab = list.get(0); 
-		return symTab.get(name);
+
+		if (Stats.enabled) {
+			Stats.count(Stats.LOOKUPS);
+			Stats.count(Stats.PROBES);
+		}
+		Scope symTab = list.get(0);
+		return symTab.get(id);
 	}
 
-	public Sym lookupGlobal(String name) 
+	public Sym lookupGlobal(int id)
 	throws EmptySymTableException {
 		if (list.isEmpty())
 			throw new EmptySymTableException();
-		
-		for (HashMap<String, Sym> symTab : list) {
-			Sym sym = symTab.get(name);
+
+		if (Stats.enabled) Stats.count(Stats.LOOKUPS);
+		for (Scope symTab : list) {
+			if (Stats.enabled) Stats.count(Stats.PROBES);
+			Sym sym = symTab.get(id);
 			if (sym != null)
 				return sym;
 		}
 		return null;
 	}
 
-	public void removeScope() 
+	public void removeScope()
 	throws EmptySymTableException {
 		if (list.isEmpty())
 			throw new EmptySymTableException();
 		list.remove(0);
+		closeFrameScope(list.size());
+	}
+
+	/***
+	 * Return the number of slots needed by the frame of the function whose
+	 * scope (at depth 1) was added last.
+	 ***/
+	public int frameSize() {
+		return frameSize;
 	}
 
-	public void print() {
+	/***
+	 * Give sym, just declared in the scope at the given depth, its lexical
+	 * address.
+	 ***/
+	protected void place(Sym sym, int depth) {
+		if (depth == 0) {
+			sym.setAddress(0, numGlobals++);
+		} else {
+			sym.setAddress(depth, nextSlot++);
+			frameSize = Math.max(frameSize, nextSlot);
+		}
+	}
+
+	/***
+	 * Note that a scope has been added at the given depth.  A scope at
+	 * depth 1 starts a new frame.
+	 ***/
+	protected void openFrameScope(int depth) {
+		if (depth == 1) {
+			nextSlot = 0;
+			frameSize = 0;
+		}
+		if (depth >= frameMarks.length)
+			frameMarks = Arrays.copyOf(frameMarks, depth * 2);
+		frameMarks[depth] = nextSlot;
+	}
+
+	/***
+	 * Note that the scope at the given depth has been removed, so that its
+	 * slots can be used again.
+	 ***/
+	protected void closeFrameScope(int depth) {
+		if (depth >= 1)
+			nextSlot = frameMarks[depth];
+	}
+
+	/***
+	 * Print the scopes, innermost first, with the names (from names, the
+	 * NameTable the ids are from) that are declared in each.
+	 ***/
+	public void print(NameTable names) {
 		System.out.print("\n++++ SYMBOL TABLE\n");
-		for (HashMap<String, Sym> symTab : list) {
-			System.out.println(symTab.toString());
+		for (Scope symTab : list) {
+			System.out.println(symTab.toString(names));
 		}
 		System.out.println("\n++++ END TABLE");
 	}
+
+	/***
+	 * One scope: an open-addressing hash table from ids to Syms.
+	 ***/
+	private static class Scope {
+		private int[] ids = new int[8];     // id + 1 (0 if the slot is empty)
+		private Sym[] syms = new Sym[8];
+		private int size;
+
+		Sym get(int id) {
+			int mask = ids.length - 1;
+			int slot = id & mask;
+			while (ids[slot] != 0) {
+				if (ids[slot] == id + 1)
+					return syms[slot];
+				slot = (slot + 1) & mask;
+			}
+			return null;
+		}
+
+		// add id unless it is there; return the Sym it had, or null
+		Sym putIfAbsent(int id, Sym sym) {
+			if (2 * (size + 1) > ids.length)
+				grow();
+			int mask = ids.length - 1;
+			int slot = id & mask;
+			while (ids[slot] != 0) {
+				if (ids[slot] == id + 1)
+					return syms[slot];
+				slot = (slot + 1) & mask;
+			}
+			ids[slot] = id + 1;
+			syms[slot] = sym;
+			size++;
+			return null;
+		}
+
+		// id must not be in the table yet
+		void put(int id, Sym sym) {
+			if (2 * (size + 1) > ids.length)
+				grow();
+			int mask = ids.length - 1;
+			int slot = id & mask;
+			while (ids[slot] != 0)
+				slot = (slot + 1) & mask;
+			ids[slot] = id + 1;
+			syms[slot] = sym;
+			size++;
+		}
+
+		private void grow() {
+			int[] oldIds = ids;
+			Sym[] oldSyms = syms;
+			ids = new int[oldIds.length * 2];
+			syms = new Sym[oldIds.length * 2];
+			size = 0;
+			for (int i = 0; i < oldIds.length; i++) {
+				if (oldIds[i] != 0)
+					put(oldIds[i] - 1, oldSyms[i]);
+			}
+		}
+
+		// as a HashMap from names to Syms, e.g. {x=integer, b=logical}
+		String toString(NameTable names) {
+			Map<String, Sym> map = new HashMap<String, Sym>();
+			for (int i = 0; i < ids.length; i++) {
+				if (ids[i] != 0)
+					map.put(names.name(ids[i] - 1), syms[i]);
+			}
+			return map.toString();
+		}
+	}
 }
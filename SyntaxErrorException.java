@@ -0,0 +1,3 @@
+public class SyntaxErrorException extends Exception {
+	
+}
\ No newline at end of file
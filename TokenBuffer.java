@@ -0,0 +1,209 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java_cup.runtime.*;
+
+/***
+ * The TokenBuffer class holds all of the tokens of one input, as scanned
+ * by a BaseScanner (see BaseScanner.tokenize, and the --scanner=tokens
+ * option of P5), in parallel int arrays instead of a Symbol and a TokenVal
+ * per token.  For token i, there is its kind (a sym constant), its line
+ * and character numbers, where its text is in the input (start and
+ * length), and its value: the id of an ID (in the scanner's NameTable) or
+ * the value of an INTLITERAL.  The last token is EOF, unless the input
+ * had unmatched input in it.
+ *
+ * Scanning is then done before parsing instead of as the parser asks for
+ * tokens, and the tokens can be read again (e.g. to parse again) without
+ * scanning again.  The parser still needs Symbols, so scanner() makes them
+ * one at a time as the parser asks for them; they are garbage as soon as
+ * the parser is done with them, where the buffer's arrays take 24 bytes a
+ * token.
+ *
+ * The messages reported while scanning are kept with the token they were
+ * reported at, and are reported again when scanner() gets to it, so they
+ * come out in the same order, between the parser's own messages, as when
+ * the parser reads straight from the scanner.
+ ***/
+public class TokenBuffer {
+    private BaseScanner source;     // for the text of the tokens
+    private int size;
+    private int[] kinds = new int[1024];
+    private int[] lines = new int[1024];
+    private int[] charNums = new int[1024];
+    private int[] starts = new int[1024];
+    private int[] lengths = new int[1024];
+    private int[] values = new int[1024];
+
+    // messages reported while scanning, in order, and the token each
+    // one goes with
+    private List<ErrMsg> msgs = new ArrayList<ErrMsg>();
+    private int[] msgTokens = new int[8];
+
+    private Error failure;  // thrown after the last token, if not null
+
+    TokenBuffer(BaseScanner source) {
+        this.source = source;
+    }
+
+    /***
+     * Add a token.
+     ***/
+    void add(int kind, int line, int charNum, int start, int length,
+             int value) {
+        if (size == kinds.length) {
+            int n = 2 * size;
+            kinds = Arrays.copyOf(kinds, n);
+            lines = Arrays.copyOf(lines, n);
+            charNums = Arrays.copyOf(charNums, n);
+            starts = Arrays.copyOf(starts, n);
+            lengths = Arrays.copyOf(lengths, n);
+            values = Arrays.copyOf(values, n);
+        }
+        kinds[size] = kind;
+        lines[size] = line;
+        charNums[size] = charNum;
+        starts[size] = start;
+        lengths[size] = length;
+        values[size] = value;
+        size++;
+    }
+
+    /***
+     * Note that the messages in captured were reported while scanning the
+     * given token (or after the last one, if it is size()).
+     ***/
+    void addMessages(int token, ErrMsg captured) {
+        if (msgs.size() == msgTokens.length) {
+            msgTokens = Arrays.copyOf(msgTokens, 2 * msgs.size());
+        }
+        msgTokens[msgs.size()] = token;
+        msgs.add(captured);
+    }
+
+    /***
+     * Note that scanning stopped after the last token by throwing ex.
+     ***/
+    void fail(Error ex) {
+        failure = ex;
+    }
+
+    /***
+     * Return true if scanning stopped at unmatched input (so there is no
+     * EOF at the end).
+     ***/
+    boolean failed() {
+        return failure != null;
+    }
+
+    /***
+     * Add the tokens of part, the tokens of the next part of the same
+     * input, changing the ids of its IDs with idMap (from ids in part's
+     * NameTable to ids in this buffer's), and add its messages.  If part
+     * is not the last part, its EOF is left out.
+     ***/
+    void append(TokenBuffer part, int[] idMap, boolean last) {
+        int first = size;
+        int n = part.size;
+        if (!last && !part.failed()) {
+            n--;  // the EOF
+        }
+        for (int i = 0; i < n; i++) {
+            int value = part.values[i];
+            if (part.kinds[i] == sym.ID) {
+                value = idMap[value];
+            }
+            add(part.kinds[i], part.lines[i], part.charNums[i],
+                part.starts[i], part.lengths[i], value);
+        }
+        for (int m = 0; m < part.msgs.size(); m++) {
+            addMessages(first + part.msgTokens[m], part.msgs.get(m));
+        }
+        if (part.failed()) {
+            fail(part.failure);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /***
+     * Return the number of tokens, not counting the EOF.
+     ***/
+    public int numTokens() {
+        return failed() ? size : size - 1;
+    }
+
+    public int kind(int i) {
+        return kinds[i];
+    }
+
+    public int line(int i) {
+        return lines[i];
+    }
+
+    public int charNum(int i) {
+        return charNums[i];
+    }
+
+    public int start(int i) {
+        return starts[i];
+    }
+
+    public int length(int i) {
+        return lengths[i];
+    }
+
+    public int value(int i) {
+        return values[i];
+    }
+
+    /***
+     * Return the text of token i.
+     ***/
+    public String text(int i) {
+        return source.text(starts[i], lengths[i]);
+    }
+
+    /***
+     * Return the names of the identifiers (the values of ID tokens are ids
+     * in it).
+     ***/
+    public NameTable names() {
+        return source.names();
+    }
+
+    /***
+     * Return a Symbol (with a TokenVal, as Yylex would make) for token i.
+     ***/
+    public Symbol symbol(int i) {
+        return source.symbol(kinds[i], lines[i], charNums[i], values[i],
+                             starts[i], lengths[i]);
+    }
+
+    /***
+     * Return a scanner that gives the tokens in this buffer, from the
+     * first one, reporting the messages that go with them on the way.
+     ***/
+    public Scanner scanner() {
+        return new Scanner() {
+            private int next = 0;       // token
+            private int nextMsgs = 0;   // in msgs
+
+            public Symbol next_token() {
+                while (nextMsgs < msgs.size() && msgTokens[nextMsgs] <= next) {
+                    ErrMsg.replay(msgs.get(nextMsgs++));
+                }
+                if (next == size) {  // no EOF: scanning failed
+                    throw failure;
+                }
+                Symbol token = symbol(next);
+                if (kinds[next] != sym.EOF) {  // stay on EOF at the end
+                    next++;
+                }
+                return token;
+            }
+        };
+    }
+}
@@ -2,13 +2,27 @@
  * Type class and its subclasses: 
  * ErrorType, IntegerType, LogicalType, VoidType, StringType, FctnType,
  * TupleType, TupleDefType
+ *
+ * Types are canonical: there is exactly one instance of each type that
+ * carries no other information (use the constants below instead of
+ * creating new ones), and one TupleType for each tuple definition, made
+ * with its TupleDefSym (so it lasts as long as the program's AST).
+ * equals is then a reference comparison.
  ***/
 abstract public class Type {
 
+    public static final Type ERROR = new ErrorType();
+    public static final Type INTEGER = new IntegerType();
+    public static final Type LOGICAL = new LogicalType();
+    public static final Type VOID = new VoidType();
+    public static final Type STRING = new StringType();
+    public static final Type FCTN = new FctnType();
+    public static final Type TUPLE_DEF = new TupleDefType();
+
     /***
      * default constructor
      ***/
-    public Type() {
+    Type() {
     }
 
     /***
@@ -63,7 +77,7 @@ class ErrorType extends Type {
     }
 
     public boolean equals(Type t) {
-        return t.isErrorType();
+        return t == this;
     }
 
     public String toString() {
@@ -81,7 +95,7 @@ class IntegerType extends Type {
     }
 
     public boolean equals(Type t) {
-        return t.isIntegerType();
+        return t == this;
     }
 
     public String toString() {
@@ -99,7 +113,7 @@ class LogicalType extends Type {
     }
 
     public boolean equals(Type t) {
-        return t.isLogicalType();
+        return t == this;
     }
 
     public String toString() {
@@ -117,7 +131,7 @@ class VoidType extends Type {
     }
 
     public boolean equals(Type t) {
-        return t.isVoidType();
+        return t == this;
     }
 
     public String toString() {
@@ -135,7 +149,7 @@ class StringType extends Type {
     }
 
     public boolean equals(Type t) {
-        return t.isStringType();
+        return t == this;
     }
 
     public String toString() {
@@ -153,7 +167,7 @@ class FctnType extends Type {
     }
 
     public boolean equals(Type t) {
-        return t.isFctnType();
+        return t == this;
     }
 
     public String toString() {
@@ -165,10 +179,10 @@ class FctnType extends Type {
 //   TupleType
 // **********************************************************************
 class TupleType extends Type {
-    private IdNode myId;
+    private String myName;
     
-    public TupleType(IdNode id) {
-        myId = id;
+    TupleType(String name) {
+        myName = name;
     }
     
     public boolean isTupleType() {
@@ -176,11 +190,11 @@ class TupleType extends Type {
     }
 
     public boolean equals(Type t) {
-        return t.isTupleType();
+        return t == this;
     }
 
     public String toString() {
-        return myId.name();
+        return myName;
     }
 }
 
@@ -194,7 +208,7 @@ class TupleDefType extends Type {
     }
 
     public boolean equals(Type t) {
-        return t.isTupleDefType();
+        return t == this;
     }
 
     public String toString() {
@@ -0,0 +1,202 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/***
+ * The UnparseWriter class is the PrintWriter the AST is unparsed to.
+ *
+ * Instead of passing each fragment down a chain of Writers (PrintWriter,
+ * BufferedWriter, OutputStreamWriter, each taking its lock), everything
+ * printed is appended to one growable char buffer, and indentation is
+ * copied from a buffer of spaces instead of printed a space at a time.
+ * The buffer is only written out by flush or close: to a FileChannel as
+ * one write, or to another Writer (e.g. a StringWriter in server mode).
+ *
+ * So that streaming mode still runs in bounded memory, the buffer is also
+ * written out whenever it would grow past MAX_BUFFER chars.
+ ***/
+class UnparseWriter extends PrintWriter {
+    private static final int MAX_BUFFER = 1 << 22;
+    private static final char[] SPACES = new char[256];
+    static {
+        Arrays.fill(SPACES, ' ');
+    }
+    private static final String NEWLINE = System.lineSeparator();
+
+    private char[] buf = new char[8192];
+    private int len;                // chars in buf
+    private FileChannel channel;    // where buf goes, or
+    private Writer out;             // if channel is null
+    private CharsetEncoder encoder;
+
+    /***
+     * An UnparseWriter writing to channel, in the default charset.
+     ***/
+    public UnparseWriter(FileChannel channel) {
+        super(new CharArrayWriter(0));  // never used
+        this.channel = channel;
+        encoder = Charset.defaultCharset().newEncoder()
+                  .onMalformedInput(CodingErrorAction.REPLACE)
+                  .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /***
+     * An UnparseWriter writing to out.
+     ***/
+    public UnparseWriter(Writer out) {
+        super(new CharArrayWriter(0));  // never used
+        this.out = out;
+    }
+
+    /***
+     * Print the given number of spaces.
+     ***/
+    public void indent(int n) {
+        while (n > 0) {
+            int k = Math.min(n, SPACES.length);
+            write(SPACES, 0, k);
+            n -= k;
+        }
+    }
+
+    public void write(int c) {
+        if (len == buf.length) {
+            makeRoom(1);
+        }
+        buf[len++] = (char)c;
+    }
+
+    public void write(char[] chars, int off, int n) {
+        if (len + n > buf.length) {
+            makeRoom(n);
+        }
+        System.arraycopy(chars, off, buf, len, n);
+        len += n;
+    }
+
+    public void write(String s, int off, int n) {
+        if (len + n > buf.length) {
+            makeRoom(n);
+        }
+        s.getChars(off, off + n, buf, len);
+        len += n;
+    }
+
+    public void write(char[] chars) {
+        write(chars, 0, chars.length);
+    }
+
+    public void write(String s) {
+        write(s, 0, s.length());
+    }
+
+    // a String is not made of csq (as PrintWriter's append would)
+    public PrintWriter append(CharSequence csq) {
+        if (csq instanceof String || csq == null) {
+            print((String)csq);
+            return this;
+        }
+        int n = csq.length();
+        if (len + n > buf.length) {
+            makeRoom(n);
+        }
+        for (int i = 0; i < n; i++) {
+            buf[len++] = csq.charAt(i);
+        }
+        return this;
+    }
+
+    public void print(char c) {
+        write(c);
+    }
+
+    public void print(String s) {
+        if (s == null) {
+            s = "null";
+        }
+        write(s, 0, s.length());
+    }
+
+    public void print(int i) {
+        print(Integer.toString(i));
+    }
+
+    public void print(Object obj) {
+        print(String.valueOf(obj));
+    }
+
+    public void println() {
+        write(NEWLINE, 0, NEWLINE.length());
+    }
+
+    public void println(String s) {
+        print(s);
+        println();
+    }
+
+    public void println(Object obj) {
+        print(String.valueOf(obj));
+        println();
+    }
+
+    /***
+     * Write out everything printed so far.
+     ***/
+    public void flush() {
+        try {
+            drain();
+            if (out != null) {
+                out.flush();
+            }
+        } catch (IOException ex) {
+            setError();
+        }
+    }
+
+    public void close() {
+        try {
+            drain();
+            if (channel != null) {
+                channel.close();
+            } else {
+                out.close();
+            }
+        } catch (IOException ex) {
+            setError();
+        }
+    }
+
+    // make room for n more chars: grow buf, or if it is big enough
+    // already, write it out
+    private void makeRoom(int n) {
+        if (len + n > MAX_BUFFER && len > 0) {
+            try {
+                drain();
+            } catch (IOException ex) {
+                setError();
+                len = 0;
+            }
+            if (n <= buf.length) {
+                return;
+            }
+        }
+        buf = Arrays.copyOf(buf, Math.max(len + n, buf.length * 2));
+    }
+
+    private void drain() throws IOException {
+        if (len == 0) {
+            return;
+        }
+        if (channel != null) {
+            ByteBuffer bytes = encoder.encode(CharBuffer.wrap(buf, 0, len));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } else {
+            out.write(buf, 0, len);
+        }
+        len = 0;
+    }
+}
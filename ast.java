@@ -1,5 +1,6 @@
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 // **********************************************************************
 // The ASTnode class defines the nodes of the abstract-syntax tree that
@@ -107,11 +108,19 @@ import java.util.*;
 // **********************************************************************
 
 abstract class ASTnode { 
+    ASTnode() {
+        if (Stats.enabled) Stats.count(Stats.NODES);
+    }
+
     // every subclass must provide an unparse operation
     abstract public void unparse(PrintWriter p, int indent);
 
     // this method can be used by the unparse methods to do indenting
     protected void doIndent(PrintWriter p, int indent) {
+        if (p instanceof UnparseWriter) {
+            ((UnparseWriter)p).indent(indent);
+            return;
+        }
         for (int k=0; k<indent; k++) p.print(" ");
     }
 }
@@ -132,10 +141,27 @@ class ProgramNode extends ASTnode {
      * all of the globals, tuple defintions, and functions in the program.
      ***/
     public void nameAnalysis() {
-        SymTable symTab = new SymTable();
+        nameAnalysis(new SymTable());
+    }
+
+    /***
+     * nameAnalysis
+     * Same as above, but uses the given (empty) symbol table for the
+     * outermost scope.
+     ***/
+    public void nameAnalysis(SymTable symTab) {
         myDeclList.nameAnalysis(symTab);
     }
 
+    /***
+     * nameAnalysis
+     * Same as above, but the functions are processed in parallel using the
+     * given pool.
+     ***/
+    public void nameAnalysis(PersistentSymTable symTab, ForkJoinPool pool) {
+        myDeclList.nameAnalysis(symTab, pool);
+    }
+
     public void unparse(PrintWriter p, int indent) {
         myDeclList.unparse(p, indent);
     }
@@ -144,6 +170,15 @@ class ProgramNode extends ASTnode {
 	myDeclList.checkType();
     }
 
+    /***
+     * checkType
+     * Same as above, but the functions are checked in parallel using the
+     * given pool.  Must only be called after nameAnalysis.
+     ***/
+    public void checkType(ForkJoinPool pool) {
+	myDeclList.checkType(pool);
+    }
+
     // 1 child
     private DeclListNode myDeclList;
 }
@@ -177,6 +212,72 @@ class DeclListNode extends ASTnode {
         }
     }
 
+    /***
+     * nameAnalysis (parallel)
+     * Same as nameAnalysis(symTab), but the formals and body of each
+     * function are processed by a task on the pool, starting from a
+     * snapshot of the symbol table as it was after the function's name was
+     * declared.  The error messages are printed in the same order as for
+     * the sequential version.  Each function's work is small (about 0.1
+     * ms in a generated program), so this only pays when several
+     * processors are free; on one, it is slower than nameAnalysis.
+     ***/
+    public void nameAnalysis(PersistentSymTable symTab, ForkJoinPool pool) {
+        List<ErrMsg> msgs = new ArrayList<ErrMsg>();
+        List<NameAnalysisTask> tasks = new ArrayList<NameAnalysisTask>();
+        for (DeclNode node : myDecls) {
+            NameAnalysisTask task = null;
+            ErrMsg.startCapture();
+            try {
+                if (node instanceof FctnDeclNode) {
+                    ((FctnDeclNode)node).declare(symTab);
+                    task = new NameAnalysisTask((FctnDeclNode)node,
+                                                symTab.snapshot());
+                    pool.execute(task);
+                } else {
+                    node.nameAnalysis(symTab);
+                }
+            } finally {
+                msgs.add(ErrMsg.endCapture());
+            }
+            tasks.add(task);
+        }
+        for (int k = 0; k < tasks.size(); k++) {
+            ErrMsg.replay(msgs.get(k));
+            if (tasks.get(k) != null) {
+                ErrMsg.replay(tasks.get(k).join());
+                Stats.addTask(tasks.get(k).myStats);
+            }
+        }
+    }
+
+    // processes the formals and body of one function, returning its error
+    // messages
+    private static class NameAnalysisTask extends RecursiveTask<ErrMsg> {
+        NameAnalysisTask(FctnDeclNode fctn,
+                         PersistentSymTable.Snapshot snapshot) {
+            myFctn = fctn;
+            mySnapshot = snapshot;
+        }
+
+        protected ErrMsg compute() {
+            ErrMsg msgs;
+            ErrMsg.startCapture();
+            myStats = Stats.beginTask(Stats.NAME_ANALYSIS);
+            try {
+                myFctn.bodyNameAnalysis(new PersistentSymTable(mySnapshot));
+            } finally {
+                Stats.endTask(myStats);
+                msgs = ErrMsg.endCapture();
+            }
+            return msgs;
+        }
+
+        private FctnDeclNode myFctn;
+        private PersistentSymTable.Snapshot mySnapshot;
+        private Stats myStats;  // what the task counted (if anything)
+    }
+
     public void unparse(PrintWriter p, int indent) {
         Iterator it = myDecls.iterator();
         try {
@@ -184,8 +285,7 @@ class DeclListNode extends ASTnode {
                 ((DeclNode)it.next()).unparse(p, indent);
             }
         } catch (NoSuchElementException ex) {
-            System.err.println("unexpected NoSuchElementException in DeclListNode.print");
-            System.exit(-1);
+            throw new IllegalStateException("unexpected NoSuchElementException in DeclListNode.print");
         }
     }
 
@@ -196,6 +296,56 @@ class DeclListNode extends ASTnode {
 		}
 	}
 
+    /***
+     * checkType (parallel)
+     * Once name analysis has linked every IdNode to its Sym, the body of
+     * each function can be checked independently, so submit one task per
+     * function to the pool.  Each task collects its own error messages;
+     * they are printed in the order the functions appear in the list, so
+     * the output is the same as for the sequential version.
+     ***/
+    public void checkType(ForkJoinPool pool) {
+        List<CheckTypeTask> tasks = new ArrayList<CheckTypeTask>();
+        for (DeclNode node : myDecls) {
+            CheckTypeTask task = new CheckTypeTask(node);
+            if (node instanceof FctnDeclNode) {
+                pool.execute(task);
+            }
+            tasks.add(task);
+        }
+        for (CheckTypeTask task : tasks) {
+            if (task.myDecl instanceof FctnDeclNode) {
+                ErrMsg.replay(task.join());
+            } else {  // nothing worth a task, check it here
+                ErrMsg.replay(task.invoke());
+            }
+            Stats.addTask(task.myStats);
+        }
+    }
+
+    // type checks one decl, returning its error messages
+    private static class CheckTypeTask extends RecursiveTask<ErrMsg> {
+        CheckTypeTask(DeclNode decl) {
+            myDecl = decl;
+        }
+
+        protected ErrMsg compute() {
+            ErrMsg msgs;
+            ErrMsg.startCapture();
+            myStats = Stats.beginTask(Stats.CHECK_TYPE);
+            try {
+                myDecl.checkType();
+            } finally {
+                Stats.endTask(myStats);
+                msgs = ErrMsg.endCapture();
+            }
+            return msgs;
+        }
+
+        private DeclNode myDecl;
+        private Stats myStats;  // what the task counted (if anything)
+    }
+
     public List<DeclNode> getDeclList() {
 	return myDecls;
     }
@@ -204,6 +354,15 @@ class DeclListNode extends ASTnode {
     private List<DeclNode> myDecls;
 }
 
+/***
+ * DeclSink
+ * Receives the top-level declarations of a program one at a time, as soon
+ * as the parser has built each one (see declSink in base.cup).
+ ***/
+interface DeclSink {
+    void decl(DeclNode decl);
+}
+
 class StmtListNode extends ASTnode {
     public StmtListNode(List<StmtNode> S) {
         myStmts = S;
@@ -381,6 +540,23 @@ abstract class DeclNode extends ASTnode {
      ***/
     abstract public Sym nameAnalysis(SymTable symTab);
     abstract public void checkType();
+
+    /***
+     * For a declaration that is bad anyway (so will not be added): report
+     * id as multiply declared if it is already declared in the innermost
+     * scope of symTab.  Good declarations use symTab.declare instead.
+     ***/
+    protected static void checkMultiplyDeclared(SymTable symTab, IdNode id) {
+        try {
+            if (symTab.lookupLocal(id.id()) != null) {
+                ErrMsg.fatal(id.lineNum(), id.charNum(),
+                             "Multiply-declared identifier");
+            }
+        } catch (EmptySymTableException ex) {
+            throw new IllegalStateException("Unexpected EmptySymTableException " +
+                               " in DeclNode.checkMultiplyDeclared");
+        }
+    }
 }
 
 class VarDeclNode extends DeclNode {
@@ -411,7 +587,7 @@ class VarDeclNode extends DeclNode {
     
     public Sym nameAnalysis(SymTable symTab, SymTable globalTab) {
         boolean badDecl = false;
-        String name = myId.name();
+        int id = myId.id();
         Sym sym = null;
         IdNode tupleId = null;
 
@@ -424,7 +600,7 @@ class VarDeclNode extends DeclNode {
         else if (myType instanceof TupleNode) {
             tupleId = ((TupleNode)myType).idNode();
 			try {
-				sym = globalTab.lookupGlobal(tupleId.name());
+				sym = globalTab.lookupGlobal(tupleId.id());
             
 				// if the name for the tuple type is not found, 
 				// or is not a tuple type
@@ -437,48 +613,51 @@ class VarDeclNode extends DeclNode {
 					tupleId.link(sym);
 				}
 			} catch (EmptySymTableException ex) {
-				System.err.println("Unexpected EmptySymTableException " +
+				throw new IllegalStateException("Unexpected EmptySymTableException " +
 								    " in VarDeclNode.nameAnalysis");
-				System.exit(-1);
 			} 
         }
         
-		try {
-			if (symTab.lookupLocal(name) != null) {
-				ErrMsg.fatal(myId.lineNum(), myId.charNum(), 
-							"Multiply-declared identifier");
-				badDecl = true;            
-			}
-		} catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
-                               " in VarDeclNode.nameAnalysis");
-            System.exit(-1);
-        } 
-        
-        if (!badDecl) {  // insert into symbol table
-            try {
-                if (myType instanceof TupleNode) {
-                    sym = new TupleSym(tupleId);
-                }
-                else {
-                    sym = new Sym(myType.type());
-                }
-                symTab.addDecl(name, sym);
-                myId.link(sym);
-            } catch (DuplicateSymNameException ex) {
-                System.err.println("Unexpected DuplicateSymNameException " +
-                                   " in VarDeclNode.nameAnalysis");
-                System.exit(-1);
-            } catch (EmptySymTableException ex) {
-                System.err.println("Unexpected EmptySymTableException " +
-                                   " in VarDeclNode.nameAnalysis");
-                System.exit(-1);
-            }
+        if (badDecl) {
+            checkMultiplyDeclared(symTab, myId);
+            return sym;
         }
-        
+
+        // insert into symbol table, unless already declared in this scope
+        if (myType instanceof TupleNode) {
+            sym = new TupleSym(tupleId);
+        }
+        else {
+            sym = new Sym(myType.type());
+        }
+        if (symTab.declare(id, sym) != null) {
+            ErrMsg.fatal(myId.lineNum(), myId.charNum(), 
+                         "Multiply-declared identifier");
+            return null;
+        }
+        if (myType instanceof TupleNode) {
+            mySize = ((TupleDefSym)tupleId.sym()).getSize();
+        }
+        myId.link(sym);
         return sym;
     } 
 
+    /***
+     * Return the symbol for the declared name, or null if it could not be
+     * declared.
+     ***/
+    public Sym sym() {
+        return myId.sym();
+    }
+
+    /***
+     * Return the number of non-tuple fields in a variable of this tuple
+     * type (once name analysis has found it), or NON_TUPLE.
+     ***/
+    public int size() {
+        return mySize;
+    }
+
     public void unparse(PrintWriter p, int indent) {
         doIndent(p, indent);
         myType.unparse(p, 0);
@@ -524,35 +703,33 @@ class FctnDeclNode extends DeclNode {
      *     exit scope
      ***/
     public Sym nameAnalysis(SymTable symTab) {
-        String name = myId.name();
-        FctnSym sym = null;
-        try {
-			if (symTab.lookupLocal(name) != null) {
-				ErrMsg.fatal(myId.lineNum(), myId.charNum(),
-							"Multiply-declared identifier");
-			}
-        
-			else { // add function name to local symbol table
-				try {
-					sym = new FctnSym(myType.type(), myFormalsList.length());
-					symTab.addDecl(name, sym);
-					myId.link(sym);
-				} catch (DuplicateSymNameException ex) {
-					System.err.println("Unexpected DuplicateSymNameException " +
-									" in FctnDeclNode.nameAnalysis");
-					System.exit(-1);
-				} catch (EmptySymTableException ex) {
-					System.err.println("Unexpected EmptySymTableException " +
-									" in FctnDeclNode.nameAnalysis");
-					System.exit(-1);
-				}
-			}
-		} catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
-                               " in FctnDeclNode.nameAnalysis");
-            System.exit(-1);
-        } 
-        
+        declare(symTab);
+        bodyNameAnalysis(symTab);
+        return null;
+    }
+
+    /***
+     * The first part of nameAnalysis: declare the function's name.
+     ***/
+    public void declare(SymTable symTab) {
+        FctnSym sym = new FctnSym(myType.type(), myFormalsList.length());
+        if (symTab.declare(myId.id(), sym) != null) {
+            ErrMsg.fatal(myId.lineNum(), myId.charNum(),
+                         "Multiply-declared identifier");
+        }
+        else {  // added function name to local symbol table
+            myId.link(sym);
+        }
+    }
+
+    /***
+     * The rest of nameAnalysis: process the formals and the body, in a new
+     * scope.  Only uses symTab for names declared before the function (and
+     * the function itself), so it can be done on another thread, with a
+     * copy of the symbol table as it was after declare.
+     ***/
+    public void bodyNameAnalysis(SymTable symTab) {
+        FctnSym sym = (FctnSym)myId.sym();  // null if multiply declared
         symTab.addScope();  // add a new scope for locals and params
         
         // process the formals
@@ -562,16 +739,16 @@ class FctnDeclNode extends DeclNode {
         }
         
         myBody.nameAnalysis(symTab); // process the function body
+        if (sym != null) {
+            sym.setFrameSize(symTab.frameSize());
+        }
         
         try {
             symTab.removeScope();  // exit scope
         } catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
+            throw new IllegalStateException("Unexpected EmptySymTableException " +
                                " in FctnDeclNode.nameAnalysis");
-            System.exit(-1);
         }
-        
-        return null;
     } 
 
     public void unparse(PrintWriter p, int indent) {
@@ -612,44 +789,21 @@ class FormalDeclNode extends DeclNode {
      * else add a new entry to the symbol table and return that Sym
      ***/
     public Sym nameAnalysis(SymTable symTab) {
-        String name = myId.name();
-        boolean badDecl = false;
-        Sym sym = null;
-        
         if (myType instanceof VoidNode) {
             ErrMsg.fatal(myId.lineNum(), myId.charNum(), 
                          "Non-function declared void");
-            badDecl = true;        
+            checkMultiplyDeclared(symTab, myId);
+            return null;
         }
         
-        try { 
-			if (symTab.lookupLocal(name) != null) {
-				ErrMsg.fatal(myId.lineNum(), myId.charNum(), 
-							"Multiply-declared identifier");
-				badDecl = true;
-			}
-        } catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
-                               " in FormalDeclNode.nameAnalysis");
-            System.exit(-1);
-        } 
-        
-        if (!badDecl) {  // insert into symbol table
-            try {
-                sym = new Sym(myType.type());
-                symTab.addDecl(name, sym);
-                myId.link(sym);
-            } catch (DuplicateSymNameException ex) {
-                System.err.println("Unexpected DuplicateSymNameException " +
-                                   " in FormalDeclNode.nameAnalysis");
-                System.exit(-1);
-            } catch (EmptySymTableException ex) {
-                System.err.println("Unexpected EmptySymTableException " +
-                                   " in FormalDeclNode.nameAnalysis");
-                System.exit(-1);
-            }
+        // insert into symbol table, unless already declared in this scope
+        Sym sym = new Sym(myType.type());
+        if (symTab.declare(myId.id(), sym) != null) {
+            ErrMsg.fatal(myId.lineNum(), myId.charNum(), 
+                         "Multiply-declared identifier");
+            return null;
         }
-        
+        myId.link(sym);
         return sym;
     }  
 
@@ -685,18 +839,17 @@ class TupleDeclNode extends DeclNode {
      *     add a new entry to symbol table for this tuple
      ***/
     public Sym nameAnalysis(SymTable symTab) {
-        String name = myId.name();
+        int id = myId.id();
         boolean badDecl = false;
         try {
-			if (symTab.lookupLocal(name) != null) {
+			if (symTab.lookupLocal(id) != null) {
 				ErrMsg.fatal(myId.lineNum(), myId.charNum(), 
 							"Multiply-declared identifier");
 				badDecl = true;            
 			}
 		} catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
+            throw new IllegalStateException("Unexpected EmptySymTableException " +
                                " in TupleDeclNode.nameAnalysis");
-            System.exit(-1);
         } 
 
         SymTable tupleSymTab = new SymTable();
@@ -704,19 +857,11 @@ class TupleDeclNode extends DeclNode {
         // process the fields of the tuple
         myDeclList.nameAnalysis(tupleSymTab, symTab);
         
-        if (!badDecl) {
-            try {   // add entry to symbol table
-                TupleDefSym sym = new TupleDefSym(tupleSymTab);
-                symTab.addDecl(name, sym);
+        if (!badDecl) {  // add entry to symbol table
+            TupleDefSym sym = new TupleDefSym(tupleSymTab, myId.name());
+            sym.setLayout(fieldSyms());
+            if (symTab.declare(id, sym) == null) {  // the fields can't add id
                 myId.link(sym);
-            } catch (DuplicateSymNameException ex) {
-                System.err.println("Unexpected DuplicateSymNameException " +
-                                   " in TupleDeclNode.nameAnalysis");
-                System.exit(-1);
-            } catch (EmptySymTableException ex) {
-                System.err.println("Unexpected EmptySymTableException " +
-                                   " in TupleDeclNode.nameAnalysis");
-                System.exit(-1);
             }
         }
         
@@ -737,6 +882,18 @@ class TupleDeclNode extends DeclNode {
 
     }
 
+    // the Syms of the fields that were declared without errors, in order
+    private List<Sym> fieldSyms() {
+        List<Sym> fields = new ArrayList<Sym>();
+        for (DeclNode decl : myDeclList.getDeclList()) {
+            Sym sym = ((VarDeclNode)decl).sym();
+            if (sym != null) {
+                fields.add(sym);
+            }
+        }
+        return fields;
+    }
+
     // 2 children
     private IdNode myId;
 	private DeclListNode myDeclList;
@@ -759,7 +916,7 @@ class LogicalNode extends TypeNode {
      * type
      ***/
     public Type type() {
-        return new LogicalType();
+        return Type.LOGICAL;
     }
 
     public void unparse(PrintWriter p, int indent) {
@@ -775,7 +932,7 @@ class IntegerNode extends TypeNode {
      * type
      ***/
     public Type type() {
-        return new IntegerType();
+        return Type.INTEGER;
     }
 
     public void unparse(PrintWriter p, int indent) {
@@ -791,7 +948,7 @@ class VoidNode extends TypeNode {
      * type
      ***/
     public Type type() {
-        return new VoidType();
+        return Type.VOID;
     }
 
     public void unparse(PrintWriter p, int indent) {
@@ -810,9 +967,14 @@ class TupleNode extends TypeNode {
        
     /***
      * type
+     * The TupleType of the tuple definition myId is linked to (by name
+     * analysis), or ERROR if it is not linked to one.
      ***/
     public Type type() {
-        return new TupleType(myId);
+        if (!(myId.sym() instanceof TupleDefSym)) {
+            return Type.ERROR;
+        }
+        return ((TupleDefSym)myId.sym()).getTupleType();
     }
 
     public void unparse(PrintWriter p, int indent) {
@@ -943,9 +1105,8 @@ class IfStmtNode extends StmtNode {
         try {
             symTab.removeScope();
         } catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
+            throw new IllegalStateException("Unexpected EmptySymTableException " +
                                " in IfStmtNode.nameAnalysis");
-            System.exit(-1);        
         }
     }
 
@@ -1022,9 +1183,8 @@ class IfElseStmtNode extends StmtNode {
         try {
             symTab.removeScope();
         } catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
+            throw new IllegalStateException("Unexpected EmptySymTableException " +
                                " in IfStmtNode.nameAnalysis");
-            System.exit(-1);        
         }
         symTab.addScope();
         myElseDeclList.nameAnalysis(symTab);
@@ -1032,9 +1192,8 @@ class IfElseStmtNode extends StmtNode {
         try {
             symTab.removeScope();
         } catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
+            throw new IllegalStateException("Unexpected EmptySymTableException " +
                                " in IfStmtNode.nameAnalysis");
-            System.exit(-1);        
         }
     }
 
@@ -1124,9 +1283,8 @@ class WhileStmtNode extends StmtNode {
         try {
             symTab.removeScope();
         } catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
+            throw new IllegalStateException("Unexpected EmptySymTableException " +
                                " in IfStmtNode.nameAnalysis");
-            System.exit(-1);        
         }
     }
 
@@ -1195,20 +1353,20 @@ class ReadStmtNode extends StmtNode {
 
     public void checkType() {
 	Type type1 = myExp.checkType();
-	//if (type1.isErrorType()) return new ErrorType();
+	//if (type1.isErrorType()) return Type.ERROR;
 	if (type1.isFctnType()) { // function name
 	    ErrMsg.fatal(myExp.lineNum(), myExp.charNum(), "Read attempt of function name");
-	    //return new ErrorType();
+	    //return Type.ERROR;
 	} else if (type1.isTupleType()) { // tuple variable
 	    ErrMsg.fatal(myExp.lineNum(), myExp.charNum(), "Read attempt of tuple variable");
-	    //return new ErrorType();
+	    //return Type.ERROR;
 	} else if (type1.isTupleDefType()) { // tuple name
 	    ErrMsg.fatal(myExp.lineNum(), myExp.charNum(), "Read attempt of tuple name");
-	    //return new ErrorType();
+	    //return Type.ERROR;
 	} else if (type1.isIntegerType()) {
-	    //return new IntegerType();
+	    //return Type.INTEGER;
 	} else if (type1.isLogicalType()) {
-	    //return new LogicalType();
+	    //return Type.LOGICAL;
 	} else { // shouldn't reach here
 	    System.out.println("Something very wrong happened");
 	}
@@ -1342,7 +1500,28 @@ abstract class ExpNode extends ASTnode {
     public void nameAnalysis(SymTable symTab) { }
     abstract public int charNum();
     abstract public int lineNum();
-    abstract public Type checkType();
+
+    /***
+     * checkType
+     * Return the type of this expression.  The type (and any error messages
+     * that go with it) is computed by typeCheck the first time it is asked
+     * for; after that the cached type is returned, so each node is checked
+     * only once no matter how many times its parent asks.
+     ***/
+    public Type checkType() {
+        if (myType == null) {
+            myType = typeCheck();
+        }
+        return myType;
+    }
+
+    /***
+     * every subclass must provide a typeCheck method that computes the type
+     * of the expression
+     ***/
+    abstract protected Type typeCheck();
+
+    private Type myType;  // cached result of typeCheck
 }
 
 class TrueNode extends ExpNode {
@@ -1355,8 +1534,8 @@ class TrueNode extends ExpNode {
         p.print("True");
     }
 
-    public Type checkType() {
-		return new LogicalType();
+    protected Type typeCheck() {
+		return Type.LOGICAL;
     }
 
 	public int charNum() {
@@ -1381,8 +1560,8 @@ class FalseNode extends ExpNode {
         p.print("False");
     }
 
-    public Type checkType() {
-		return new LogicalType();
+    protected Type typeCheck() {
+		return Type.LOGICAL;
     }
 
 	public int charNum() {
@@ -1398,17 +1577,20 @@ class FalseNode extends ExpNode {
 }
 
 class IdNode extends ExpNode {
-    public IdNode(int lineNum, int charNum, String strVal) {
+    public IdNode(int lineNum, int charNum, String strVal, int id) {
         myLineNum = lineNum;
         myCharNum = charNum;
         myStrVal = strVal;
+        myId = id;
     }
 
     /***
-     * Link the given symbol to this ID.
+     * Link the given symbol to this ID, and record its lexical address.
      ***/
     public void link(Sym sym) {
         mySym = sym;
+        myDepth = sym.getDepth();
+        mySlot = sym.getSlot();
     }
     
     /***
@@ -1417,6 +1599,13 @@ class IdNode extends ExpNode {
     public String name() {
         return myStrVal;
     }
+
+    /***
+     * Return the id of this ID's name (in the scanner's NameTable).
+     ***/
+    public int id() {
+        return myId;
+    }
     
     /***
      * Return the symbol associated with this ID.
@@ -1425,6 +1614,23 @@ class IdNode extends ExpNode {
         return mySym;
     }
 
+    /***
+     * Return the depth of the scope this ID's symbol was declared in (0 for
+     * a global), or -1 if it has not been linked to a symbol.
+     ***/
+    public int depth() {
+        return myDepth;
+    }
+
+    /***
+     * Return the slot of this ID's symbol: its index among the globals, or
+     * in the frame of its function (or for a field name after a colon, its
+     * index in the tuple).  Only valid if depth() >= 0.
+     ***/
+    public int slot() {
+        return mySlot;
+    }
+
     /***
      * Return the line number for this ID.
      ***/
@@ -1447,34 +1653,38 @@ class IdNode extends ExpNode {
      ***/
     public void nameAnalysis(SymTable symTab) {
 		try {
-            Sym sym = symTab.lookupGlobal(myStrVal);
+            Sym sym = symTab.lookupGlobal(myId);
             if (sym == null) {
                 ErrMsg.fatal(myLineNum, myCharNum, "Undeclared identifier");
             } else {
                 link(sym);
             }
         } catch (EmptySymTableException ex) {
-            System.err.println("Unexpected EmptySymTableException " +
+            throw new IllegalStateException("Unexpected EmptySymTableException " +
                                " in IdNode.nameAnalysis");
-            System.exit(-1);
         } 
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
 		return sym().getType();
     }
 
     public void unparse(PrintWriter p, int indent) {
         p.print(myStrVal);
         if (mySym != null) {
-            p.print("<" + mySym + ">");
+            p.print('<');
+            p.print(mySym.toString());
+            p.print('>');
         }
     }
 
     private int myLineNum;
     private int myCharNum;
     private String myStrVal;
+    private int myId;
     private Sym mySym;
+    private int myDepth = -1;
+    private int mySlot = -1;
 }
 
 class IntLitNode extends ExpNode {
@@ -1488,8 +1698,8 @@ class IntLitNode extends ExpNode {
         p.print(myIntVal);
     }
 
-    public Type checkType() {
-		return new IntegerType();
+    protected Type typeCheck() {
+		return Type.INTEGER;
     }
 
     public int charNum() {
@@ -1506,18 +1716,22 @@ class IntLitNode extends ExpNode {
 }
 
 class StrLitNode extends ExpNode {
-    public StrLitNode(int lineNum, int charNum, String strVal) {
+    /***
+     * strVal is the text of the literal, quotes and all; it is only made
+     * into a String if something asks for one (see SourceSpan).
+     ***/
+    public StrLitNode(int lineNum, int charNum, CharSequence strVal) {
         myLineNum = lineNum;
         myCharNum = charNum;
         myStrVal = strVal;
     }
 
     public void unparse(PrintWriter p, int indent) {
-        p.print(myStrVal);
+        p.append(myStrVal);
     }
 
-    public Type checkType() {
-		return new StringType();
+    protected Type typeCheck() {
+		return Type.STRING;
     }
 
     public int charNum() {
@@ -1530,7 +1744,7 @@ class StrLitNode extends ExpNode {
 
     private int myLineNum;
     private int myCharNum;
-    private String myStrVal;
+    private CharSequence myStrVal;
 }
 
 class TupleAccessNode extends ExpNode {
@@ -1546,6 +1760,23 @@ class TupleAccessNode extends ExpNode {
         return mySym;
     }    
     
+    /***
+     * Return the ID of the variable at the start of this (possibly
+     * chained) colon-access, once name analysis has been done.
+     ***/
+    public IdNode root() {
+        return myRoot;
+    }
+
+    /***
+     * Return the offset of the accessed field in the flattened tuple held
+     * by the variable root(), once name analysis has been done without
+     * errors.
+     ***/
+    public int offset() {
+        return myOffset;
+    }
+
     /***
      * Return the line number for this colon-access node. 
      * The line number is the one corresponding to the RHS of the colon-access.
@@ -1573,7 +1804,8 @@ class TupleAccessNode extends ExpNode {
      ***/
     public void nameAnalysis(SymTable symTab) {
         badAccess = false;
-        SymTable tupleSymTab = null; // to lookup RHS of colon-access
+        TupleDefSym tupleDef = null; // to lookup RHS of colon-access
+        int base = 0;                // offset of the LHS in the root
         Sym sym = null;
         
         myLoc.nameAnalysis(symTab);  // do name analysis on LHS
@@ -1591,7 +1823,8 @@ class TupleAccessNode extends ExpNode {
             else if (sym instanceof TupleSym) { 
                 // get symbol table for tuple type
                 Sym tempSym = ((TupleSym)sym).getTupleType().sym();
-                tupleSymTab = ((TupleDefSym)tempSym).getSymTable();
+                tupleDef = (TupleDefSym)tempSym;
+                myRoot = id;
             } 
             else {  // LHS is not a tuple type
                 ErrMsg.fatal(id.lineNum(), id.charNum(), 
@@ -1620,11 +1853,12 @@ class TupleAccessNode extends ExpNode {
                 }
                 else {  // get the tuple's symbol table in which to lookup RHS
                     if (sym instanceof TupleDefSym) {
-                        tupleSymTab = ((TupleDefSym)sym).getSymTable();
+                        tupleDef = (TupleDefSym)sym;
+                        myRoot = loc.myRoot;
+                        base = loc.myOffset;
                     }
                     else {
-                        System.err.println("Unexpected Sym type in TupleAccessNode");
-                        System.exit(-1);
+                        throw new IllegalStateException("Unexpected Sym type in TupleAccessNode");
                     }
                 }
             }
@@ -1632,14 +1866,13 @@ class TupleAccessNode extends ExpNode {
         }
         
         else { // don't know what kind of thing myLoc is
-            System.err.println("Unexpected node type in LHS of colon-access");
-            System.exit(-1);
+            throw new IllegalStateException("Unexpected node type in LHS of colon-access");
         }
         
         // do name analysis on RHS of colon-access in the tuple's symbol table
         if (!badAccess) {
 			try {
-				sym = tupleSymTab.lookupGlobal(myId.name()); // lookup
+				sym = tupleDef.getSymTable().lookupGlobal(myId.id()); // lookup
 				if (sym == null) { // not found - RHS is not a valid field name
 					ErrMsg.fatal(myId.lineNum(), myId.charNum(), 
 								"Invalid tuple field name");
@@ -1648,6 +1881,7 @@ class TupleAccessNode extends ExpNode {
             
 				else {
 					myId.link(sym);  // link the symbol
+					myOffset = base + tupleDef.getOffset(sym.getSlot());
 					// if RHS is itself as tuple type, link the symbol for its tuple 
 					// type to this colon-access node (to allow chained colon-access)
 					if (sym instanceof TupleSym) {
@@ -1655,9 +1889,8 @@ class TupleAccessNode extends ExpNode {
 					}
 				}
 			} catch (EmptySymTableException ex) {
-				System.err.println("Unexpected EmptySymTableException " +
+				throw new IllegalStateException("Unexpected EmptySymTableException " +
 								" in TupleAccessNode.nameAnalysis");
-				System.exit(-1);
 			} 
         }
     }    
@@ -1669,7 +1902,7 @@ class TupleAccessNode extends ExpNode {
         myId.unparse(p, 0);
     }
 
-    public Type checkType() { // doesn't do any checks on the type of the tuple
+    protected Type typeCheck() { // doesn't do any checks on the type of the tuple
 	return myId.checkType();	
     }
 
@@ -1678,6 +1911,8 @@ class TupleAccessNode extends ExpNode {
     private IdNode myId;
     private Sym mySym;          // link to Sym for tuple type
     private boolean badAccess;  // to prevent multiple, cascading errors
+    private IdNode myRoot;      // the variable being accessed
+    private int myOffset;       // of the field in myRoot's flattened tuple
 }
 
 class AssignExpNode extends ExpNode {
@@ -1704,35 +1939,35 @@ class AssignExpNode extends ExpNode {
         if (indent != -1)  p.print(")");    
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
 		Type leftType = myLhs.checkType();
 		Type expType = myExp.checkType();
 		
 		// if either are an error; stop and just return error
 		if (leftType.isErrorType() || expType.isErrorType())
-			return new ErrorType();
+			return Type.ERROR;
 		
 		// check if lhs and expType are either both ints or both logical
 		if (leftType.isLogicalType() && expType.isLogicalType()) {
-			return new LogicalType();
+			return Type.LOGICAL;
 		} else if (leftType.isIntegerType() && expType.isIntegerType()) {
-			return new IntegerType();
+			return Type.INTEGER;
+		} else if (leftType.isTupleType() && expType.isTupleType()) {
+			// check if both are tuple variables (of any tuple types)
+			ErrMsg.fatal(myLhs.lineNum(), myLhs.charNum(), "Assignment to tuple variable");
+			return Type.ERROR;
 		} else if (!leftType.equals(expType)) {
 			// check if mismatch
 			ErrMsg.fatal(myLhs.lineNum(), myLhs.charNum(), "Mismatched type");
-			return new ErrorType();
+			return Type.ERROR;
 		} else if (leftType.isFctnType()) {
 			// check if both are functions
 			ErrMsg.fatal(myLhs.lineNum(), myLhs.charNum(), "Assignment to function name");
-			return new ErrorType();
-		} else if (leftType.isTupleType()) {
-			// check if both are tuple variables
-			ErrMsg.fatal(myLhs.lineNum(), myLhs.charNum(), "Assignment to tuple variable");
-			return new ErrorType();
+			return Type.ERROR;
 		} else if (leftType.isTupleDefType()) {
 			// check if both are tuple name
 			ErrMsg.fatal(myLhs.lineNum(), myLhs.charNum(), "Assignment to tuple name");
-			return new ErrorType();
+			return Type.ERROR;
 		} else { // should be correct
 			return leftType;
 		}
@@ -1772,19 +2007,21 @@ class CallExpNode extends ExpNode {
         myExpList.nameAnalysis(symTab);
     }
 
-    public Type checkType() { // returning the type of the return type
+    protected Type typeCheck() { // returning the type of the return type
 	Type type1 = myId.checkType();
 	if (!type1.isFctnType()) { // not function type
 	    ErrMsg.fatal(myId.lineNum(), myId.charNum(), "Call attempt on non-function");
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
 
         List<ExpNode> expList = myExpList.getExpList();
-	LinkedList<Type> actualTypes = new LinkedList<Type>();
+	Type[] actualTypes = new Type[expList.size()];
+	int n = 0;
 	for (ExpNode e : expList) {
-	    actualTypes.add(e.checkType());
-	    if (e.checkType().isErrorType()) {
-                return new ErrorType();
+	    Type actualType = e.checkType();
+	    actualTypes[n++] = actualType;
+	    if (actualType.isErrorType()) {
+                return Type.ERROR;
 	    }
 	}
         
@@ -1794,24 +2031,24 @@ class CallExpNode extends ExpNode {
 	if (sym instanceof FctnSym) {
 	    fctnSym = (FctnSym) sym;
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
-	int numParams = fctnSym.getNumParams();
-	List<Type> formalTypes = fctnSym.getParamTypes();
-	if (numParams != actualTypes.size()) { // different size
+	if (fctnSym.getNumParams() != actualTypes.length) { // different size
 	    ErrMsg.fatal(myId.lineNum(), myId.charNum(), "Function call with wrong # of args");
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
 
 	boolean wrongActualArg = false;
-	for (int i = 0; i < expList.size(); i++) {
-            if (!actualTypes.get(i).equals(formalTypes.get(i))) {
-                ErrMsg.fatal(expList.get(i).lineNum(), expList.get(i).charNum(), "Actual type does not match formal type");
+	int i = 0;
+	for (ExpNode e : expList) {
+            if (!actualTypes[i].equals(fctnSym.getParamType(i))) {
+                ErrMsg.fatal(e.lineNum(), e.charNum(), "Actual type does not match formal type");
                 wrongActualArg = true;
 	    }
+	    i++;
 	}
 	if (wrongActualArg) { // this means at least one actual doesn't match formal
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
 	
 		
@@ -1914,18 +2151,18 @@ class NotNode extends UnaryExpNode {
         p.print(")");
     }
 
-	public Type checkType() {
+	protected Type typeCheck() {
 		Type type = myExp.checkType();
 
 		if (type.isLogicalType()) {
-			return new LogicalType();
+			return Type.LOGICAL;
 		} else if (type.isErrorType()) {
-			return new ErrorType();
+			return Type.ERROR;
 		}
 		else {
 			// type is not logical/error, print "Logical operator used with non-logical operand"
 			ErrMsg.fatal(myExp.lineNum(), myExp.charNum(), "Logical operator used with non-logical operand");
-			return new ErrorType();
+			return Type.ERROR;
 		}
     }
 
@@ -1949,14 +2186,14 @@ class UnaryMinusNode extends UnaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
 	Type type1 = myExp.checkType();
-	if (type1.isErrorType()) return new ErrorType();
+	if (type1.isErrorType()) return Type.ERROR;
 	if (!type1.isIntegerType()) {
 	    ErrMsg.fatal(myExp.lineNum(), myExp.charNum(), "Arithmetic operator used with non-integer operand");
-            return new ErrorType();
+            return Type.ERROR;
 	} else { // no errors
-	    return new IntegerType();
+	    return Type.INTEGER;
 	}	
     }
 
@@ -1986,11 +2223,11 @@ class PlusNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
 	Type type1 = myExp1.checkType();
 	Type type2 = myExp2.checkType();
 	boolean flag = false;
-	if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
+	if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
 	if (!type1.isIntegerType()) {
 	    ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Arithmetic operator used with non-integer operand");
 	    flag = true;
@@ -2000,9 +2237,9 @@ class PlusNode extends BinaryExpNode {
 	    flag = true;
 	}
         if (!flag) { // no errors
-	    return new IntegerType();
+	    return Type.INTEGER;
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 
@@ -2028,11 +2265,11 @@ class MinusNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
     	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
         boolean flag = false;
-        if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
+        if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
         if (!type1.isIntegerType()) {
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Arithmetic operator used with non-integer operand");
             flag = true;
@@ -2042,9 +2279,9 @@ class MinusNode extends BinaryExpNode {
             flag = true;
         }
         if (!flag) { // no errors
-            return new IntegerType();
+            return Type.INTEGER;
         } else {
-            return new ErrorType();
+            return Type.ERROR;
         }
     }
 
@@ -2070,11 +2307,11 @@ class TimesNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
     	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
         boolean flag = false;
-        if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
+        if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
         if (!type1.isIntegerType()) {
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Arithmetic operator used with non-integer operand");
             flag = true;
@@ -2084,9 +2321,9 @@ class TimesNode extends BinaryExpNode {
             flag = true;
         }
         if (!flag) { // no errors
-            return new IntegerType();
+            return Type.INTEGER;
         } else {
-            return new ErrorType();
+            return Type.ERROR;
         }
     }
 	
@@ -2112,11 +2349,11 @@ class DivideNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
     	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
         boolean flag = false;
-        if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
+        if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
         if (!type1.isIntegerType()) {
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Arithmetic operator used with non-integer operand");
             flag = true;
@@ -2126,9 +2363,9 @@ class DivideNode extends BinaryExpNode {
             flag = true;
         }
         if (!flag) { // no errors
-            return new IntegerType();
+            return Type.INTEGER;
         } else {
-            return new ErrorType();
+            return Type.ERROR;
         }
     }
 
@@ -2154,33 +2391,33 @@ class EqualsNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
     	Type type1 = myExp1.checkType();
 	Type type2 = myExp2.checkType();
-	if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
-	if (!type1.equals(type2)) { // not the same type
+	if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
+	if (type1.isTupleType() && type2.isTupleType()) { // tuple variables, of any tuple types
+	    ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with tuple variables");
+	    return Type.ERROR;
+	} else if (!type1.equals(type2)) { // not the same type
 	    ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Mismatched type");
-	    return new ErrorType();
+	    return Type.ERROR;
 	} else if ((type1.isIntegerType() && type2.isIntegerType()) ||
 			(type1.isLogicalType() && type2.isLogicalType()) || 
 			(type1.isStringType() && type2.isStringType())) { // correct
-	    return new LogicalType();
+	    return Type.LOGICAL;
 	} else if (myExp1 instanceof CallExpNode && myExp2 instanceof CallExpNode &&
 			type1.isVoidType() && type2.isVoidType()) { // this is expecting return types of fctn call
 	    ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with void function calls");
-	    return new ErrorType();
+	    return Type.ERROR;
 	} else if (type1.isFctnType() && type2.isFctnType()) { // function  name
 	    ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with function names");
-	    return new ErrorType();
-	} else if (type1.isTupleType() && type2.isTupleType()) { // tuple variable
-	    ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with tuple variables");
-	    return new ErrorType();
+	    return Type.ERROR;
 	} else if (type1.isTupleDefType() && type2.isTupleDefType()) { // tuple name
 	    ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with tuple names");
-	    return new ErrorType();
+	    return Type.ERROR;
 	} else { // something else needs to happen here
 	    System.out.println("Something very wrong happened");
-	    return new LogicalType();
+	    return Type.LOGICAL;
 	}
     }
 
@@ -2206,28 +2443,28 @@ class NotEqualsNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
 	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
-        if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
-        if (!type1.equals(type2)) { // not the same type
+        if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
+        if (type1.isTupleType() && type2.isTupleType()) { // tuple variables, of any tuple types
+            ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with tuple variables");
+            return Type.ERROR;
+        } else if (!type1.equals(type2)) { // not the same type
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Mismatched type");
-            return new ErrorType();
+            return Type.ERROR;
 	} else if (myExp1 instanceof CallExpNode && myExp2 instanceof CallExpNode &&
             type1.isVoidType() && type2.isVoidType()) { // this is expecting return types of fctn call
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with void function calls");
-            return new ErrorType();
+            return Type.ERROR;
         } else if (type1.isFctnType() && type2.isFctnType()) { // function name
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with function names");
-            return new ErrorType();
-        } else if (type1.isTupleType() && type2.isTupleType()) { // tuple variable
-            ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with tuple variables");
-            return new ErrorType();
+            return Type.ERROR;
         } else if (type1.isTupleDefType() && type2.isTupleDefType()) { // tuple name
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Equality operator used with tuple names");
-            return new ErrorType();
+            return Type.ERROR;
         } else { // correct
-            return new LogicalType();
+            return Type.LOGICAL;
 	}
            
     }
@@ -2254,11 +2491,11 @@ class GreaterNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
 	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
         boolean flag = false;
-	if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
+	if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
         if (!type1.isIntegerType()) {
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Relational operator used with non-integer operand");
 	    flag = true;
@@ -2268,9 +2505,9 @@ class GreaterNode extends BinaryExpNode {
 	    flag = true;
         }
 	if (!flag) { // no errors
-            return new LogicalType();
+            return Type.LOGICAL;
         } else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 	
@@ -2296,11 +2533,11 @@ class GreaterEqNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
     	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
         boolean flag = false;
-        if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
+        if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
         if (!type1.isIntegerType()) {
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Relational operator used with non-integer operand");
             flag = true;
@@ -2310,9 +2547,9 @@ class GreaterEqNode extends BinaryExpNode {
             flag = true;
         }
         if (!flag) { // no errors
-            return new LogicalType();
+            return Type.LOGICAL;
         } else {
-            return new ErrorType();
+            return Type.ERROR;
         }
     }
 
@@ -2338,11 +2575,11 @@ class LessNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
     	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
         boolean flag = false;
-        if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
+        if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
         if (!type1.isIntegerType()) {
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Relational operator used with non-integer operand");
             flag = true;
@@ -2352,9 +2589,9 @@ class LessNode extends BinaryExpNode {
             flag = true;
         }
         if (!flag) { // no errors
-            return new LogicalType();
+            return Type.LOGICAL;
         } else {
-            return new ErrorType();
+            return Type.ERROR;
         }
     }
 
@@ -2380,11 +2617,11 @@ class LessEqNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
     	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
         boolean flag = false;
-        if (type1.isErrorType() || type2.isErrorType()) return new ErrorType();
+        if (type1.isErrorType() || type2.isErrorType()) return Type.ERROR;
         if (!type1.isIntegerType()) {
             ErrMsg.fatal(myExp1.lineNum(), myExp1.charNum(), "Relational operator used with non-integer operand");
             flag = true;
@@ -2394,9 +2631,9 @@ class LessEqNode extends BinaryExpNode {
             flag = true;
         }
         if (!flag) { // no errors
-            return new LogicalType();
+            return Type.LOGICAL;
         } else {
-            return new ErrorType();
+            return Type.ERROR;
         }
     }
 
@@ -2423,17 +2660,17 @@ class AndNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
 	Type type1 = myExp1.checkType();
 	Type type2 = myExp2.checkType();
 	boolean flag = false;
 
         if (type1.isLogicalType() && type2.isLogicalType()) {
-            return new LogicalType();
+            return Type.LOGICAL;
         }
 	
 	if (type1.isErrorType() || type2.isErrorType()) {
-            return new ErrorType();
+            return Type.ERROR;
         }
         
 	if (!type1.isLogicalType()) {
@@ -2447,9 +2684,9 @@ class AndNode extends BinaryExpNode {
 	    flag = true;
 	}
 	if (!flag) { // shouldn't reach here but have it anyways
-	    return new LogicalType();
+	    return Type.LOGICAL;
 	} else {
-	    return new ErrorType();
+	    return Type.ERROR;
 	}
     }
 
@@ -2475,17 +2712,17 @@ class OrNode extends BinaryExpNode {
         p.print(")");
     }
 
-    public Type checkType() {
+    protected Type typeCheck() {
     	Type type1 = myExp1.checkType();
         Type type2 = myExp2.checkType();
         boolean flag = false;
 
         if (type1.isLogicalType() && type2.isLogicalType()) {
-            return new LogicalType();
+            return Type.LOGICAL;
         }
 
         if (type1.isErrorType() || type2.isErrorType()) {
-            return new ErrorType();
+            return Type.ERROR;
         }
 
         if (!type1.isLogicalType()) {
@@ -2499,9 +2736,9 @@ class OrNode extends BinaryExpNode {
             flag = true;
         }
         if (!flag) { // shouldn't reach here but have it anyways
-            return new LogicalType();
+            return Type.LOGICAL;
         } else {
-            return new ErrorType();
+            return Type.ERROR;
         }
     }
 
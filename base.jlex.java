@@ -0,0 +1,1361 @@
+import java_cup.runtime.*; // defines the Symbol class
+// The generated scanner will return a Symbol for each token that it finds.
+// A Symbol contains an Object field named value; that field will be of type
+// TokenVal, defined below.
+//
+// A TokenVal object contains the line number on which the token occurs as
+// well as the number of the character on that line that starts the token.
+// Some tokens (literals and IDs) also include the value of the token.
+class TokenVal {
+    // fields
+    int lineNum;
+    int charNum;
+    // constructor
+    TokenVal(int lineNum, int charNum) {
+        this.lineNum = lineNum;
+        this.charNum = charNum;
+    }
+}
+class IntLitTokenVal extends TokenVal {
+    // new field: the value of the integer literal
+    int intVal;
+    // constructor
+    IntLitTokenVal(int lineNum, int charNum, int intVal) {
+        super(lineNum, charNum);
+        this.intVal = intVal;
+    }
+}
+class IdTokenVal extends TokenVal {
+    // new fields: the value of the identifier, and its id in the scanner's
+    // NameTable
+    String idVal;
+    int id;
+    // constructor
+    IdTokenVal(int lineNum, int charNum, String idVal, int id) {
+        super(lineNum, charNum);
+        this.idVal = idVal;
+        this.id = id;
+    }
+}
+class StrLitTokenVal extends TokenVal {
+    // new field: the value of the string literal (a String, or for
+    // BaseScanner, a SourceSpan of its input)
+    CharSequence strVal;
+    // constructor
+    StrLitTokenVal(int lineNum, int charNum, CharSequence strVal) {
+        super(lineNum, charNum);
+        this.strVal = strVal;
+    }
+}
+
+
+class Yylex implements java_cup.runtime.Scanner {
+	private static final int YY_BUFFER_SIZE = 512;
+	private static final int YY_F = -1;
+	private static final int YY_NO_STATE = -1;
+	private static final int YY_NOT_ACCEPT = 0;
+	private static final int YY_START = 1;
+	private static final int YY_END = 2;
+	private static final int YY_NO_ANCHOR = 4;
+	private static final int YY_BOL = 128;
+	private static final int YY_EOF = 129;
+
+// the character number at which the current token starts on its line
+// (kept per scanner, so that several files can be scanned at once)
+private int charNum = 1;
+// the identifiers seen so far
+private NameTable names = new NameTable();
+	private java.io.BufferedReader yy_reader;
+	private int yy_buffer_index;
+	private int yy_buffer_read;
+	private int yy_buffer_start;
+	private int yy_buffer_end;
+	private char yy_buffer[];
+	private int yyline;
+	private boolean yy_at_bol;
+	private int yy_lexical_state;
+
+	Yylex (java.io.Reader reader) {
+		this ();
+		if (null == reader) {
+			throw (new Error("Error: Bad input stream initializer."));
+		}
+		yy_reader = new java.io.BufferedReader(reader);
+	}
+
+	Yylex (java.io.InputStream instream) {
+		this ();
+		if (null == instream) {
+			throw (new Error("Error: Bad input stream initializer."));
+		}
+		yy_reader = new java.io.BufferedReader(new java.io.InputStreamReader(instream));
+	}
+
+	private Yylex () {
+		yy_buffer = new char[YY_BUFFER_SIZE];
+		yy_buffer_read = 0;
+		yy_buffer_index = 0;
+		yy_buffer_start = 0;
+		yy_buffer_end = 0;
+		yyline = 0;
+		yy_at_bol = true;
+		yy_lexical_state = YYINITIAL;
+	}
+
+	private boolean yy_eof_done = false;
+	private static final int YYINITIAL = 0;
+	private static final int yy_state_dtrans[] = {
+		0
+	};
+	private void yybegin (int state) {
+		yy_lexical_state = state;
+	}
+	private int yy_advance ()
+		throws java.io.IOException {
+		int next_read;
+		int i;
+		int j;
+
+		if (yy_buffer_index < yy_buffer_read) {
+			return yy_buffer[yy_buffer_index++];
+		}
+
+		if (0 != yy_buffer_start) {
+			i = yy_buffer_start;
+			j = 0;
+			while (i < yy_buffer_read) {
+				yy_buffer[j] = yy_buffer[i];
+				++i;
+				++j;
+			}
+			yy_buffer_end = yy_buffer_end - yy_buffer_start;
+			yy_buffer_start = 0;
+			yy_buffer_read = j;
+			yy_buffer_index = j;
+			next_read = yy_reader.read(yy_buffer,
+					yy_buffer_read,
+					yy_buffer.length - yy_buffer_read);
+			if (-1 == next_read) {
+				return YY_EOF;
+			}
+			yy_buffer_read = yy_buffer_read + next_read;
+		}
+
+		while (yy_buffer_index >= yy_buffer_read) {
+			if (yy_buffer_index >= yy_buffer.length) {
+				yy_buffer = yy_double(yy_buffer);
+			}
+			next_read = yy_reader.read(yy_buffer,
+					yy_buffer_read,
+					yy_buffer.length - yy_buffer_read);
+			if (-1 == next_read) {
+				return YY_EOF;
+			}
+			yy_buffer_read = yy_buffer_read + next_read;
+		}
+		return yy_buffer[yy_buffer_index++];
+	}
+	private void yy_move_end () {
+		if (yy_buffer_end > yy_buffer_start &&
+		    '\n' == yy_buffer[yy_buffer_end-1])
+			yy_buffer_end--;
+		if (yy_buffer_end > yy_buffer_start &&
+		    '\r' == yy_buffer[yy_buffer_end-1])
+			yy_buffer_end--;
+	}
+	private boolean yy_last_was_cr=false;
+	private void yy_mark_start () {
+		int i;
+		for (i = yy_buffer_start; i < yy_buffer_index; ++i) {
+			if ('\n' == yy_buffer[i] && !yy_last_was_cr) {
+				++yyline;
+			}
+			if ('\r' == yy_buffer[i]) {
+				++yyline;
+				yy_last_was_cr=true;
+			} else yy_last_was_cr=false;
+		}
+		yy_buffer_start = yy_buffer_index;
+	}
+	private void yy_mark_end () {
+		yy_buffer_end = yy_buffer_index;
+	}
+	private void yy_to_mark () {
+		yy_buffer_index = yy_buffer_end;
+		yy_at_bol = (yy_buffer_end > yy_buffer_start) &&
+		            ('\r' == yy_buffer[yy_buffer_end-1] ||
+		             '\n' == yy_buffer[yy_buffer_end-1] ||
+		             2028/*LS*/ == yy_buffer[yy_buffer_end-1] ||
+		             2029/*PS*/ == yy_buffer[yy_buffer_end-1]);
+	}
+	private java.lang.String yytext () {
+		return (new java.lang.String(yy_buffer,
+			yy_buffer_start,
+			yy_buffer_end - yy_buffer_start));
+	}
+	private int yylength () {
+		return yy_buffer_end - yy_buffer_start;
+	}
+	private int yystart () {
+		return yy_buffer_start;
+	}
+	private java.lang.CharSequence yytextview () {
+		return java.nio.CharBuffer.wrap(yy_buffer,
+			yy_buffer_start,
+			yy_buffer_end - yy_buffer_start);
+	}
+	private char[] yy_double (char buf[]) {
+		int i;
+		char newbuf[];
+		newbuf = new char[2*buf.length];
+		for (i = 0; i < buf.length; ++i) {
+			newbuf[i] = buf[i];
+		}
+		return newbuf;
+	}
+	private static final int YY_E_INTERNAL = 0;
+	private static final int YY_E_MATCH = 1;
+	private static final java.lang.String yy_error_string[] = {
+		"Error: Internal error.\n",
+		"Error: Unmatched input.\n"
+	};
+	private void yy_error (int code,boolean fatal) {
+		java.lang.System.out.print(yy_error_string[code]);
+		java.lang.System.out.flush();
+		if (fatal) {
+			throw new Error("Fatal Error.\n");
+		}
+	}
+	private static int[][] unpackFromString(int size1, int size2, String st) {
+		int colonIndex = -1;
+		String lengthString;
+		int sequenceLength = 0;
+		int sequenceInteger = 0;
+
+		int commaIndex;
+		String workString;
+
+		int res[][] = new int[size1][size2];
+		for (int i= 0; i < size1; i++) {
+			for (int j= 0; j < size2; j++) {
+				if (sequenceLength != 0) {
+					res[i][j] = sequenceInteger;
+					sequenceLength--;
+					continue;
+				}
+				commaIndex = st.indexOf(',');
+				workString = (commaIndex==-1) ? st :
+					st.substring(0, commaIndex);
+				st = st.substring(commaIndex+1);
+				colonIndex = workString.indexOf(':');
+				if (colonIndex == -1) {
+					res[i][j]=Integer.parseInt(workString);
+					continue;
+				}
+				lengthString =
+					workString.substring(colonIndex+1);
+				sequenceLength=Integer.parseInt(lengthString);
+				workString=workString.substring(0,colonIndex);
+				sequenceInteger=Integer.parseInt(workString);
+				res[i][j] = sequenceInteger;
+				sequenceLength--;
+			}
+		}
+		return res;
+	}
+	private static final int yy_acpt[] = {
+		/* 0 */ YY_NOT_ACCEPT,
+		/* 1 */ YY_NO_ANCHOR,
+		/* 2 */ YY_NO_ANCHOR,
+		/* 3 */ YY_NO_ANCHOR,
+		/* 4 */ YY_NO_ANCHOR,
+		/* 5 */ YY_NO_ANCHOR,
+		/* 6 */ YY_NO_ANCHOR,
+		/* 7 */ YY_NO_ANCHOR,
+		/* 8 */ YY_NO_ANCHOR,
+		/* 9 */ YY_NO_ANCHOR,
+		/* 10 */ YY_NO_ANCHOR,
+		/* 11 */ YY_NO_ANCHOR,
+		/* 12 */ YY_NO_ANCHOR,
+		/* 13 */ YY_NO_ANCHOR,
+		/* 14 */ YY_NO_ANCHOR,
+		/* 15 */ YY_NO_ANCHOR,
+		/* 16 */ YY_NO_ANCHOR,
+		/* 17 */ YY_NO_ANCHOR,
+		/* 18 */ YY_NO_ANCHOR,
+		/* 19 */ YY_NO_ANCHOR,
+		/* 20 */ YY_NO_ANCHOR,
+		/* 21 */ YY_NO_ANCHOR,
+		/* 22 */ YY_NO_ANCHOR,
+		/* 23 */ YY_NO_ANCHOR,
+		/* 24 */ YY_NO_ANCHOR,
+		/* 25 */ YY_NO_ANCHOR,
+		/* 26 */ YY_NO_ANCHOR,
+		/* 27 */ YY_NO_ANCHOR,
+		/* 28 */ YY_NO_ANCHOR,
+		/* 29 */ YY_NO_ANCHOR,
+		/* 30 */ YY_NO_ANCHOR,
+		/* 31 */ YY_NO_ANCHOR,
+		/* 32 */ YY_NO_ANCHOR,
+		/* 33 */ YY_NO_ANCHOR,
+		/* 34 */ YY_NO_ANCHOR,
+		/* 35 */ YY_NO_ANCHOR,
+		/* 36 */ YY_NO_ANCHOR,
+		/* 37 */ YY_NO_ANCHOR,
+		/* 38 */ YY_NO_ANCHOR,
+		/* 39 */ YY_NO_ANCHOR,
+		/* 40 */ YY_NO_ANCHOR,
+		/* 41 */ YY_NO_ANCHOR,
+		/* 42 */ YY_NO_ANCHOR,
+		/* 43 */ YY_NO_ANCHOR,
+		/* 44 */ YY_NO_ANCHOR,
+		/* 45 */ YY_NO_ANCHOR,
+		/* 46 */ YY_NO_ANCHOR,
+		/* 47 */ YY_NO_ANCHOR,
+		/* 48 */ YY_NO_ANCHOR,
+		/* 49 */ YY_NO_ANCHOR,
+		/* 50 */ YY_NO_ANCHOR,
+		/* 51 */ YY_NO_ANCHOR,
+		/* 52 */ YY_NO_ANCHOR,
+		/* 53 */ YY_NO_ANCHOR,
+		/* 54 */ YY_NO_ANCHOR,
+		/* 55 */ YY_NO_ANCHOR,
+		/* 56 */ YY_NO_ANCHOR,
+		/* 57 */ YY_NO_ANCHOR,
+		/* 58 */ YY_NO_ANCHOR,
+		/* 59 */ YY_NO_ANCHOR,
+		/* 60 */ YY_NO_ANCHOR,
+		/* 61 */ YY_NO_ANCHOR,
+		/* 62 */ YY_NO_ANCHOR,
+		/* 63 */ YY_NO_ANCHOR,
+		/* 64 */ YY_NO_ANCHOR,
+		/* 65 */ YY_NO_ANCHOR,
+		/* 66 */ YY_NO_ANCHOR,
+		/* 67 */ YY_NO_ANCHOR,
+		/* 68 */ YY_NO_ANCHOR,
+		/* 69 */ YY_NO_ANCHOR,
+		/* 70 */ YY_NO_ANCHOR,
+		/* 71 */ YY_NO_ANCHOR,
+		/* 72 */ YY_NO_ANCHOR,
+		/* 73 */ YY_NO_ANCHOR,
+		/* 74 */ YY_NO_ANCHOR,
+		/* 75 */ YY_NO_ANCHOR,
+		/* 76 */ YY_NO_ANCHOR,
+		/* 77 */ YY_NO_ANCHOR,
+		/* 78 */ YY_NO_ANCHOR,
+		/* 79 */ YY_NO_ANCHOR,
+		/* 80 */ YY_NO_ANCHOR,
+		/* 81 */ YY_NO_ANCHOR,
+		/* 82 */ YY_NO_ANCHOR,
+		/* 83 */ YY_NO_ANCHOR,
+		/* 84 */ YY_NO_ANCHOR,
+		/* 85 */ YY_NO_ANCHOR,
+		/* 86 */ YY_NO_ANCHOR,
+		/* 87 */ YY_NO_ANCHOR,
+		/* 88 */ YY_NO_ANCHOR,
+		/* 89 */ YY_NO_ANCHOR,
+		/* 90 */ YY_NO_ANCHOR,
+		/* 91 */ YY_NO_ANCHOR,
+		/* 92 */ YY_NO_ANCHOR,
+		/* 93 */ YY_NOT_ACCEPT,
+		/* 94 */ YY_NO_ANCHOR,
+		/* 95 */ YY_NO_ANCHOR,
+		/* 96 */ YY_NO_ANCHOR,
+		/* 97 */ YY_NO_ANCHOR,
+		/* 98 */ YY_NO_ANCHOR,
+		/* 99 */ YY_NO_ANCHOR,
+		/* 100 */ YY_NO_ANCHOR,
+		/* 101 */ YY_NO_ANCHOR
+	};
+	private static final int yy_cmap[] = unpackFromString(1,130,
+"51:9,29,28,51:2,27,51:18,29,30,23,51,31,51,45,26,34,35,49,47,39,48,40,50,22" +
+":10,38,51,42,43,41,24,51,21:5,15,21:13,13,21:6,36,25,37,51,21,51,8,21,7,4,1" +
+"1,19,6,20,3,21:2,5,21,9,2,17,21,12,16,10,14,1,18,21:3,32,46,33,44,51,0:2")[0];
+
+	private static final int yy_rmap[] = unpackFromString(1,102,
+"0,1,2,3,4,5,6,7,8,9,10,11,12,13,1:2,14,15,16,1:9,17,18,19,20,1:2,21,22,1:2," +
+"23,24,3,25,26,27,28,29,30,31,32,1,33,1:8,34,35,36,37,38,39,40,41,42,43,44,4" +
+"5,46,3,47,48,49,3:2,50,3,51,52,53,1,54,55,56,57,3,58,3:3,59,60,61,62,3,60,6" +
+"3,3:2")[0];
+
+	private static final int yy_nxt[][] = unpackFromString(64,52,
+"1,2,3,4,3,5,3:4,6,7,8,9,3,10,3:2,11,3:3,12,13,14:3,-1,15,16,17,18,19,20,21," +
+"22,23,24,25,26,27,28,29,30,31,32,33,34,35,36,37,14,-1:53,3,38,3:20,-1:30,3:" +
+"22,-1:30,3:8,39,3:9,40,3:3,-1:30,3,41,3:20,-1:30,3:13,42,3:8,-1:30,3:4,43,3" +
+":17,-1:30,3:10,44,3:11,-1:30,3:11,45,3:10,-1:30,3:7,46,3:14,-1:30,3:11,47,3" +
+":7,48,3:2,-1:51,12,-1:30,13:22,49,13,50,13:2,-1,13:23,-1:29,16,-1:52,18,-1:" +
+"22,18:27,-1,18:23,-1:41,51,-1,52,-1:50,53,54,-1:51,55,-1:51,56,-1:55,57,-1:" +
+"52,58,-1:4,3:2,59,3:19,-1:30,3:9,60,3:12,-1:30,3:5,61,3:16,-1:30,3:16,62,3:" +
+"5,-1:30,3:15,63,3:6,-1:30,3:7,64,3,65,3:12,-1:30,3:13,66,3:8,-1:30,3:4,67,3" +
+":17,-1:30,3:2,68,3:19,-1:30,3:2,69,3:19,-1:30,70:8,13:2,70:5,71,70:6,13,-1," +
+"13:2,70,-1,70:23,-1,3:3,72,3:18,-1:30,3:10,73,3:11,-1:30,3:2,74,3:19,-1:30," +
+"3:4,75,3:17,-1:30,3:10,76,3:11,-1:30,3:3,77,3:18,-1:30,3:13,78,3:8,-1:30,3:" +
+"10,79,3:11,-1:30,3:15,80,3:6,-1:30,3:9,81,3:12,-1:30,3:4,82,3:17,-1:30,70:2" +
+"2,83,70,84,70:2,-1,70:23,-1,71:22,49,71,85,71:2,-1,71:23,-1,3:5,86,3:16,-1:" +
+"30,3:6,87,3:15,-1:30,3:10,88,3:11,-1:30,3:11,89,3:10,-1:30,3:10,90,3:11,-1:" +
+"30,3:10,91,3:11,-1:30,3:10,92,3:11,-1:30,93:8,70:2,93:5,70,93:6,94,93,70:2," +
+"93,-1,93:23,-1,70:8,71:2,70:5,71,70:6,13,93,71:2,70,-1,70:23,-1,3:10,95,3:1" +
+"1,-1:30,3:7,96,3:14,-1:30,3:8,97,3:13,-1:30,93:22,83,93:4,-1,93:23,-1,98:22" +
+",-1,98,99,98:2,-1,98:23,-1,3:11,100,3:10,-1:30,3:4,101,3:17,-1:38,98:2,-1:5" +
+",98,-1:6,98,-1,98:2,-1:25");
+
+	public java_cup.runtime.Symbol next_token ()
+		throws java.io.IOException {
+		int yy_lookahead;
+		int yy_anchor = YY_NO_ANCHOR;
+		int yy_state = yy_state_dtrans[yy_lexical_state];
+		int yy_next_state = YY_NO_STATE;
+		int yy_last_accept_state = YY_NO_STATE;
+		boolean yy_initial = true;
+		int yy_this_accept;
+
+		yy_mark_start();
+		yy_this_accept = yy_acpt[yy_state];
+		if (YY_NOT_ACCEPT != yy_this_accept) {
+			yy_last_accept_state = yy_state;
+			yy_mark_end();
+		}
+		while (true) {
+			if (yy_initial && yy_at_bol) yy_lookahead = YY_BOL;
+			else yy_lookahead = yy_advance();
+			yy_next_state = YY_F;
+			yy_next_state = yy_nxt[yy_rmap[yy_state]][yy_cmap[yy_lookahead]];
+			if (YY_EOF == yy_lookahead && true == yy_initial) {
+
+return new Symbol(sym.EOF);
+			}
+			if (YY_F != yy_next_state) {
+				yy_state = yy_next_state;
+				yy_initial = false;
+				yy_this_accept = yy_acpt[yy_state];
+				if (YY_NOT_ACCEPT != yy_this_accept) {
+					yy_last_accept_state = yy_state;
+					yy_mark_end();
+				}
+			}
+			else {
+				if (YY_NO_STATE == yy_last_accept_state) {
+					throw (new Error("Lexical Error: Unmatched Input."));
+				}
+				else {
+					yy_anchor = yy_acpt[yy_last_accept_state];
+					if (0 != (YY_END & yy_anchor)) {
+						yy_move_end();
+					}
+					yy_to_mark();
+					switch (yy_last_accept_state) {
+					case 1:
+						
+					case -2:
+						break;
+					case 2:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -3:
+						break;
+					case 3:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -4:
+						break;
+					case 4:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -5:
+						break;
+					case 5:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -6:
+						break;
+					case 6:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -7:
+						break;
+					case 7:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -8:
+						break;
+					case 8:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -9:
+						break;
+					case 9:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -10:
+						break;
+					case 10:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -11:
+						break;
+					case 11:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -12:
+						break;
+					case 12:
+						{ // the digits are added up straight from the buffer; once
+            // the value is too large, the rest are skipped
+            long val = 0;
+            int end = yystart() + yylength();
+            for (int i = yystart(); i < end; i++) {
+                if (val <= Integer.MAX_VALUE) {
+                    val = 10 * val + (yy_buffer[i] - '0');
+                }
+            }
+            int intVal;
+            if (val > Integer.MAX_VALUE) {
+                ErrMsg.warn(yyline+1, charNum,
+                            "integer literal too large - using max value");
+                intVal = Integer.MAX_VALUE;
+            } else {
+                intVal = (int)val;
+            }
+            Symbol S = new Symbol(sym.INTLITERAL,
+                             new IntLitTokenVal(yyline+1, charNum, intVal));
+            charNum += yylength();
+            return S;
+          }
+					case -13:
+						break;
+					case 13:
+						{
+            // unterminated string
+            ErrMsg.fatal(yyline+1, charNum,
+                         "unterminated string literal ignored");
+          }
+					case -14:
+						break;
+					case 14:
+						{ ErrMsg.fatal(yyline+1, charNum,
+                         "illegal character ignored: " + yytextview());
+            charNum++;
+          }
+					case -15:
+						break;
+					case 15:
+						{ charNum = 1; }
+					case -16:
+						break;
+					case 16:
+						{ charNum += yylength(); }
+					case -17:
+						break;
+					case 17:
+						{ ErrMsg.fatal(yyline+1, charNum,
+                         "illegal character ignored: " + yytextview());
+            charNum++;
+          }
+					case -18:
+						break;
+					case 18:
+						{ // comment - ignore. Note: don't need to update char num 
+            // since everything to end of line will be ignored
+          }
+					case -19:
+						break;
+					case 19:
+						{ Symbol S = new Symbol(sym.LCURLY, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -20:
+						break;
+					case 20:
+						{ Symbol S = new Symbol(sym.RCURLY, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -21:
+						break;
+					case 21:
+						{ Symbol S = new Symbol(sym.LPAREN, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -22:
+						break;
+					case 22:
+						{ Symbol S = new Symbol(sym.RPAREN, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -23:
+						break;
+					case 23:
+						{ Symbol S = new Symbol(sym.LSQBRACKET, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -24:
+						break;
+					case 24:
+						{ Symbol S = new Symbol(sym.RSQBRACKET, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -25:
+						break;
+					case 25:
+						{ Symbol S = new Symbol(sym.COLON, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -26:
+						break;
+					case 26:
+						{ Symbol S = new Symbol(sym.COMMA, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -27:
+						break;
+					case 27:
+						{ Symbol S = new Symbol(sym.DOT, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -28:
+						break;
+					case 28:
+						{ Symbol S = new Symbol(sym.GREATER, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -29:
+						break;
+					case 29:
+						{ Symbol S = new Symbol(sym.LESS, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -30:
+						break;
+					case 30:
+						{ Symbol S = new Symbol(sym.ASSIGN, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -31:
+						break;
+					case 31:
+						{ Symbol S = new Symbol(sym.NOT, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -32:
+						break;
+					case 32:
+						{ Symbol S = new Symbol(sym.AND, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -33:
+						break;
+					case 33:
+						{ Symbol S = new Symbol(sym.OR, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -34:
+						break;
+					case 34:
+						{ Symbol S = new Symbol(sym.PLUS, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -35:
+						break;
+					case 35:
+						{ Symbol S = new Symbol(sym.MINUS, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -36:
+						break;
+					case 36:
+						{ Symbol S = new Symbol(sym.TIMES, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -37:
+						break;
+					case 37:
+						{ Symbol S = new Symbol(sym.DIVIDE, new TokenVal(yyline+1, charNum));
+            charNum++;
+            return S;
+          }
+					case -38:
+						break;
+					case 38:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -39:
+						break;
+					case 39:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -40:
+						break;
+					case 40:
+						{ Symbol S = new Symbol(sym.IF, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -41:
+						break;
+					case 41:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -42:
+						break;
+					case 42:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -43:
+						break;
+					case 43:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -44:
+						break;
+					case 44:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -45:
+						break;
+					case 45:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -46:
+						break;
+					case 46:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -47:
+						break;
+					case 47:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -48:
+						break;
+					case 48:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -49:
+						break;
+					case 49:
+						{
+            // copied, as yy_buffer is reused for later input
+            String strVal = yytext();
+            Symbol S = new Symbol(sym.STRLITERAL,
+                             new StrLitTokenVal(yyline+1, charNum, strVal));
+            charNum += strVal.length();
+            return S;
+          }
+					case -50:
+						break;
+					case 50:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -51:
+						break;
+					case 51:
+						{ Symbol S = new Symbol(sym.INPUTOP, new TokenVal(yyline+1, charNum));
+            charNum += 2;
+            return S;
+          }
+					case -52:
+						break;
+					case 52:
+						{ Symbol S = new Symbol(sym.GREATEREQ, new TokenVal(yyline+1, charNum));
+            charNum += 2;
+            return S;
+          }
+					case -53:
+						break;
+					case 53:
+						{ Symbol S = new Symbol(sym.OUTPUTOP, new TokenVal(yyline+1, charNum));
+            charNum += 2;
+            return S;
+          }
+					case -54:
+						break;
+					case 54:
+						{ Symbol S = new Symbol(sym.LESSEQ, new TokenVal(yyline+1, charNum));
+            charNum += 2;
+            return S;
+          }
+					case -55:
+						break;
+					case 55:
+						{ Symbol S = new Symbol(sym.EQUALS, new TokenVal(yyline+1, charNum));
+            charNum += 2;
+            return S;
+          }
+					case -56:
+						break;
+					case 56:
+						{ Symbol S = new Symbol(sym.NOTEQUALS, new TokenVal(yyline+1, charNum));
+            charNum += 2;
+            return S;
+          }
+					case -57:
+						break;
+					case 57:
+						{ Symbol S = new Symbol(sym.PLUSPLUS, new TokenVal(yyline+1, charNum));
+            charNum += 2;
+            return S;
+          }
+					case -58:
+						break;
+					case 58:
+						{ Symbol S = new Symbol(sym.MINUSMINUS, new TokenVal(yyline+1, charNum));
+            charNum += 2;
+            return S;
+          }
+					case -59:
+						break;
+					case 59:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -60:
+						break;
+					case 60:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -61:
+						break;
+					case 61:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -62:
+						break;
+					case 62:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -63:
+						break;
+					case 63:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -64:
+						break;
+					case 64:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -65:
+						break;
+					case 65:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -66:
+						break;
+					case 66:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -67:
+						break;
+					case 67:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -68:
+						break;
+					case 68:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -69:
+						break;
+					case 69:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -70:
+						break;
+					case 70:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -71:
+						break;
+					case 71:
+						{
+            // unterminated string
+            ErrMsg.fatal(yyline+1, charNum,
+                         "unterminated string literal ignored");
+          }
+					case -72:
+						break;
+					case 72:
+						{ Symbol S = new Symbol(sym.VOID, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -73:
+						break;
+					case 73:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -74:
+						break;
+					case 74:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -75:
+						break;
+					case 75:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -76:
+						break;
+					case 76:
+						{ Symbol S = new Symbol(sym.ELSE, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -77:
+						break;
+					case 77:
+						{ Symbol S = new Symbol(sym.READ, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -78:
+						break;
+					case 78:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -79:
+						break;
+					case 79:
+						{ Symbol S = new Symbol(sym.TRUE, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -80:
+						break;
+					case 80:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -81:
+						break;
+					case 81:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -82:
+						break;
+					case 82:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -83:
+						break;
+					case 83:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+                         "string literal with bad escaped character ignored");
+            charNum += yylength();
+          }
+					case -84:
+						break;
+					case 84:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -85:
+						break;
+					case 85:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -86:
+						break;
+					case 86:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -87:
+						break;
+					case 87:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -88:
+						break;
+					case 88:
+						{ Symbol S = new Symbol(sym.TUPLE, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -89:
+						break;
+					case 89:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -90:
+						break;
+					case 90:
+						{ Symbol S = new Symbol(sym.FALSE, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -91:
+						break;
+					case 91:
+						{ Symbol S = new Symbol(sym.WRITE, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -92:
+						break;
+					case 92:
+						{ Symbol S = new Symbol(sym.WHILE, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -93:
+						break;
+					case 94:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+                         "string literal with bad escaped character ignored");
+            charNum += yylength();
+          }
+					case -94:
+						break;
+					case 95:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -95:
+						break;
+					case 96:
+						{
+            int id = names.intern(yy_buffer, yystart(), yylength());
+            Symbol S = new Symbol(sym.ID, 
+                             new IdTokenVal(yyline+1, charNum,
+                                            names.name(id), id));
+            charNum += yylength();
+            return S;
+          }
+					case -96:
+						break;
+					case 97:
+						{ Symbol S = new Symbol(sym.RETURN, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -97:
+						break;
+					case 98:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -98:
+						break;
+					case 99:
+						{
+            // bad escape character
+            ErrMsg.fatal(yyline+1, charNum,
+             "unterminated string literal with bad escaped character ignored");
+          }
+					case -99:
+						break;
+					case 100:
+						{ Symbol S = new Symbol(sym.INTEGER, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -100:
+						break;
+					case 101:
+						{ Symbol S = new Symbol(sym.LOGICAL, new TokenVal(yyline+1, charNum));
+            charNum += yylength();
+            return S;
+          }
+					case -101:
+						break;
+					default:
+						yy_error(YY_E_INTERNAL,false);
+					case -1:
+					}
+					yy_initial = true;
+					yy_state = yy_state_dtrans[yy_lexical_state];
+					yy_next_state = YY_NO_STATE;
+					yy_last_accept_state = YY_NO_STATE;
+					yy_mark_start();
+					yy_this_accept = yy_acpt[yy_state];
+					if (YY_NOT_ACCEPT != yy_this_accept) {
+						yy_last_accept_state = yy_state;
+						yy_mark_end();
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package bench;
+
+import java.io.*;
+import java.lang.invoke.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+
+/****
+ * JMH benchmarks for each phase of the compiler: scanning, parsing, name
+ * analysis, type checking and unparsing.
+ *
+ * Every benchmark runs on a generated program of the given shape and size:
+ *   functions    size functions, each calling the one before it
+ *   deepExpr     one function whose expressions are nested size deep
+ *   wideTuples   a tuple type with size fields, and a function using them
+ *   deepTuples   size tuple types, each with a field of the one before it,
+ *                and a colon-access size levels deep
+ *
+ * Name analysis and type checking change the AST, so each call needs a
+ * fresh one.  Before each iteration, a batch of fresh ASTs is built (see
+ * ParsedAsts and AnalyzedAsts), and the iteration is one call that goes
+ * through the batch, so that building the ASTs is not timed.
+ *
+ * The compiler is in the default package, which can't be imported here,
+ * so the phases are called through method handles on the Phases class.
+ *
+ * Run with "make bench" (see the Makefile).
+ ****/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhaseBenchmarks {
+    @Param({"functions", "deepExpr", "wideTuples", "deepTuples"})
+    public String shape;
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private static final MethodHandle LEX;
+    private static final MethodHandle PARSE;
+    private static final MethodHandle NAME_ANALYSIS;
+    private static final MethodHandle CHECK_TYPE;
+    private static final MethodHandle UNPARSE;
+    private static final MethodHandle HAD_ERRORS;
+
+    static {
+        try {
+            Class<?> phases = Class.forName("Phases");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            LEX = lookup.findStatic(phases, "lex",
+                MethodType.methodType(int.class, String.class));
+            PARSE = lookup.findStatic(phases, "parse",
+                MethodType.methodType(Object.class, String.class));
+            NAME_ANALYSIS = lookup.findStatic(phases, "nameAnalysis",
+                MethodType.methodType(void.class, Object.class));
+            CHECK_TYPE = lookup.findStatic(phases, "checkType",
+                MethodType.methodType(void.class, Object.class));
+            UNPARSE = lookup.findStatic(phases, "unparse",
+                MethodType.methodType(void.class, Object.class, Writer.class));
+            HAD_ERRORS = lookup.findStatic(phases, "hadErrors",
+                MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    // the number of fresh ASTs built for each iteration of nameAnalysis
+    // and checkType
+    static final int BATCH = 100;
+
+    private String source;     // the generated program
+    private Object checked;    // an AST after type checking (for unparse)
+
+    @Setup(Level.Trial)
+    public void generate() throws Throwable {
+        source = generate(shape, size);
+        checked = PARSE.invoke(source);
+        NAME_ANALYSIS.invoke(checked);
+        CHECK_TYPE.invoke(checked);
+        if ((boolean)HAD_ERRORS.invoke()) {
+            throw new IllegalStateException("generated " + shape +
+                                            " program has errors");
+        }
+    }
+
+    // a batch of fresh ASTs of the program (for nameAnalysis)
+    @State(Scope.Thread)
+    public static class ParsedAsts {
+        Object[] asts = new Object[BATCH];
+
+        @Setup(Level.Iteration)
+        public void build(BenchmarkParams params) throws Throwable {
+            String source = generate(params);
+            for (int k = 0; k < BATCH; k++) {
+                asts[k] = PARSE.invoke(source);
+            }
+        }
+    }
+
+    // a batch of fresh ASTs of the program after name analysis (for
+    // checkType)
+    @State(Scope.Thread)
+    public static class AnalyzedAsts {
+        Object[] asts = new Object[BATCH];
+
+        @Setup(Level.Iteration)
+        public void build(BenchmarkParams params) throws Throwable {
+            String source = generate(params);
+            for (int k = 0; k < BATCH; k++) {
+                asts[k] = PARSE.invoke(source);
+                NAME_ANALYSIS.invoke(asts[k]);
+            }
+        }
+    }
+
+    @Benchmark
+    public int lex() throws Throwable {
+        return (int)LEX.invokeExact(source);
+    }
+
+    @Benchmark
+    public Object parse() throws Throwable {
+        return (Object)PARSE.invokeExact(source);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(BATCH)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 20)
+    public void nameAnalysis(ParsedAsts fresh) throws Throwable {
+        for (Object ast : fresh.asts) {
+            NAME_ANALYSIS.invokeExact(ast);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(BATCH)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 20)
+    public void checkType(AnalyzedAsts fresh) throws Throwable {
+        for (Object ast : fresh.asts) {
+            CHECK_TYPE.invokeExact(ast);
+        }
+    }
+
+    @Benchmark
+    public void unparse(Blackhole bh) throws Throwable {
+        Writer out = new NullWriter(bh);
+        UNPARSE.invokeExact(checked, out);
+    }
+
+    // a Writer that throws away everything written to it
+    private static class NullWriter extends Writer {
+        NullWriter(Blackhole bh) {
+            myBh = bh;
+        }
+
+        public void write(char[] buf, int off, int len) {
+            myBh.consume(len);
+        }
+
+        public void write(String str, int off, int len) {
+            myBh.consume(len);
+        }
+
+        public void flush() {
+        }
+
+        public void close() {
+        }
+
+        private Blackhole myBh;
+    }
+
+    // the program for the shape and size of the benchmark being run
+    private static String generate(BenchmarkParams params) {
+        return generate(params.getParam("shape"),
+                        Integer.parseInt(params.getParam("size")));
+    }
+
+    /***
+     * Return a (correct) program of the given shape and size.
+     ***/
+    static String generate(String shape, int size) {
+        StringBuilder sb = new StringBuilder();
+        if (shape.equals("functions")) {
+            sb.append("integer f0{integer a, logical b} [\n");
+            sb.append("    return a.\n");
+            sb.append("]\n");
+            for (int k = 1; k < size; k++) {
+                sb.append("integer f" + k + "{integer a, logical b} [\n");
+                sb.append("    integer x.\n");
+                sb.append("    x = f" + (k - 1) + "(a + 1, ~b).\n");
+                sb.append("    if b & x > 0 [\n");
+                sb.append("        x++.\n");
+                sb.append("    ]\n");
+                sb.append("    return x * 2.\n");
+                sb.append("]\n");
+            }
+        } else if (shape.equals("deepExpr")) {
+            sb.append("integer f{integer a} [\n");
+            sb.append("    return a.\n");
+            sb.append("]\n");
+            sb.append("void main{} [\n");
+            sb.append("    integer x.\n");
+            sb.append("    logical b.\n");
+            sb.append("    x = ");
+            for (int k = 0; k < size; k++) {
+                sb.append(k % 2 == 0 ? "(x + " : "f(");
+            }
+            sb.append("1");
+            for (int k = 0; k < size; k++) {
+                sb.append(")");
+            }
+            sb.append(".\n");
+            sb.append("    b = ");
+            for (int k = 0; k < size; k++) {
+                sb.append("~(x < 1 | ");
+            }
+            sb.append("True");
+            for (int k = 0; k < size; k++) {
+                sb.append(")");
+            }
+            sb.append(".\n");
+            sb.append("]\n");
+        } else if (shape.equals("wideTuples")) {
+            sb.append("tuple Wide {\n");
+            for (int k = 0; k < size; k++) {
+                sb.append("    integer f" + k + ".\n");
+            }
+            sb.append("}.\n");
+            sb.append("tuple Wide w.\n");
+            sb.append("void main{} [\n");
+            sb.append("    tuple Wide v.\n");
+            for (int k = 0; k < size; k++) {
+                sb.append("    v:f" + k + " = w:f" + k + " + " + k + ".\n");
+            }
+            sb.append("]\n");
+        } else if (shape.equals("deepTuples")) {
+            sb.append("tuple T0 {\n");
+            sb.append("    integer x.\n");
+            sb.append("}.\n");
+            for (int k = 1; k < size; k++) {
+                sb.append("tuple T" + k + " {\n");
+                sb.append("    integer x.\n");
+                sb.append("    tuple T" + (k - 1) + " f.\n");
+                sb.append("}.\n");
+            }
+            sb.append("tuple T" + (size - 1) + " t.\n");
+            sb.append("void main{} [\n");
+            sb.append("    t");
+            for (int k = 1; k < size; k++) {
+                sb.append(":f");
+            }
+            sb.append(":x = t:x.\n");
+            sb.append("]\n");
+        } else {
+            throw new IllegalArgumentException("unknown shape " + shape);
+        }
+        return sb.toString();
+    }
+}
@@ -643,19 +643,20 @@ class CEmit
 	  }
 	  
 	  /* Constants */
-	  m_outstream.println("\tprivate final int YY_BUFFER_SIZE = 512;");
+	  // static, so that the static tables (see emit_table) can use them
+	  m_outstream.println("\tprivate static final int YY_BUFFER_SIZE = 512;");
 
-	  m_outstream.println("\tprivate final int YY_F = -1;");
-	  m_outstream.println("\tprivate final int YY_NO_STATE = -1;");
+	  m_outstream.println("\tprivate static final int YY_F = -1;");
+	  m_outstream.println("\tprivate static final int YY_NO_STATE = -1;");
 
-	  m_outstream.println("\tprivate final int YY_NOT_ACCEPT = 0;");
-	  m_outstream.println("\tprivate final int YY_START = 1;");
-	  m_outstream.println("\tprivate final int YY_END = 2;");
-	  m_outstream.println("\tprivate final int YY_NO_ANCHOR = 4;");
+	  m_outstream.println("\tprivate static final int YY_NOT_ACCEPT = 0;");
+	  m_outstream.println("\tprivate static final int YY_START = 1;");
+	  m_outstream.println("\tprivate static final int YY_END = 2;");
+	  m_outstream.println("\tprivate static final int YY_NO_ANCHOR = 4;");
 
 	  // internal
-	  m_outstream.println("\tprivate final int YY_BOL = "+m_spec.BOL+";");
-	  m_outstream.println("\tprivate final int YY_EOF = "+m_spec.EOF+";");
+	  m_outstream.println("\tprivate static final int YY_BOL = "+m_spec.BOL+";");
+	  m_outstream.println("\tprivate static final int YY_EOF = "+m_spec.EOF+";");
 	  // external
 	  if (m_spec.m_integer_type || true == m_spec.m_yyeof)
 	    m_outstream.println("\tpublic final int YYEOF = -1;");
@@ -829,7 +830,7 @@ class CEmit
 		  CUtility.ASSERT(null != state);
 		}
 	      
-	      m_outstream.println("\tprivate final int " 
+	      m_outstream.println("\tprivate static final int " 
 				     + state 
 				     + " = " 
 				     + (m_spec.m_states.get(state)).toString() 
@@ -837,7 +838,7 @@ class CEmit
 	      /*++index;*/
 	    }
 
-	  m_outstream.println("\tprivate final int yy_state_dtrans[] = {");
+	  m_outstream.println("\tprivate static final int yy_state_dtrans[] = {");
 	  for (index = 0; index < m_spec.m_state_dtrans.length; ++index)
 	    {
 	      m_outstream.print("\t\t" + m_spec.m_state_dtrans[index]);
@@ -1031,6 +1032,22 @@ class CEmit
 	m_outstream.println("\t\treturn yy_buffer_end - yy_buffer_start;");
 	m_outstream.println("\t}");
 
+	/* Function: yystart */
+	// yystart, yylength and yytextview give the match without making a
+	// String of it (as yytext does): where it starts in yy_buffer and
+	// how long it is, or a view of it that is only good until the
+	// next match (yy_buffer is reused)
+	m_outstream.println("\tprivate int yystart () {");
+	m_outstream.println("\t\treturn yy_buffer_start;");
+	m_outstream.println("\t}");
+
+	/* Function: yytextview */
+	m_outstream.println("\tprivate java.lang.CharSequence yytextview () {");
+	m_outstream.println("\t\treturn java.nio.CharBuffer.wrap(yy_buffer,");
+	m_outstream.println("\t\t\tyy_buffer_start,");
+	m_outstream.println("\t\t\tyy_buffer_end - yy_buffer_start);");
+	m_outstream.println("\t}");
+
 	/* Function: yy_double */
 	m_outstream.println("\tprivate char[] yy_double (char buf[]) {");
 	m_outstream.println("\t\tint i;");
@@ -1043,9 +1060,9 @@ class CEmit
 	m_outstream.println("\t}");
 
 	/* Function: yy_error */
-	m_outstream.println("\tprivate final int YY_E_INTERNAL = 0;");
-	m_outstream.println("\tprivate final int YY_E_MATCH = 1;");
-	m_outstream.println("\tprivate java.lang.String yy_error_string[] = {");
+	m_outstream.println("\tprivate static final int YY_E_INTERNAL = 0;");
+	m_outstream.println("\tprivate static final int YY_E_MATCH = 1;");
+	m_outstream.println("\tprivate static final java.lang.String yy_error_string[] = {");
 	m_outstream.println("\t\t\"Error: Internal error.\\n\",");
 	m_outstream.println("\t\t\"Error: Unmatched input.\\n\"");
 	m_outstream.println("\t};");
@@ -1072,7 +1089,8 @@ class CEmit
 	// Added 6/24/98 Raimondas Lencevicius
 	// May be made more efficient by replacing String operations
 	// Assumes correctly formed input String. Performs no error checking
-	m_outstream.println("\tprivate int[][] unpackFromString"+
+	// Static, as the tables are: they are unpacked once per class load
+	m_outstream.println("\tprivate static int[][] unpackFromString"+
 			    "(int size1, int size2, String st) {");
 	m_outstream.println("\t\tint colonIndex = -1;");
 	m_outstream.println("\t\tString lengthString;");
@@ -1169,7 +1187,10 @@ class CEmit
 	    CUtility.ASSERT(null != m_outstream);
 	  }
 
-	m_outstream.println("\tprivate int yy_acpt[] = {");
+	// The tables are static final: they are the same for every scanner,
+	// so they are unpacked once, when the class is loaded, instead of
+	// by every constructor.
+	m_outstream.println("\tprivate static final int yy_acpt[] = {");
 	size = m_spec.m_accept_vector.size();
 	for (elem = 0; elem < size; ++elem)
 	  {
@@ -1216,13 +1237,13 @@ class CEmit
 	int[] yy_cmap = new int[m_spec.m_ccls_map.length];
 	for (i = 0; i < m_spec.m_ccls_map.length; ++i)
 	    yy_cmap[i] = m_spec.m_col_map[m_spec.m_ccls_map[i]];
-	m_outstream.print("\tprivate int yy_cmap[] = unpackFromString(");
+	m_outstream.print("\tprivate static final int yy_cmap[] = unpackFromString(");
 	emit_table_as_string(new int[][] { yy_cmap });
 	m_outstream.println(")[0];");
 	m_outstream.println();
 
 	// CSA: modified yy_rmap to use string packing 9-Aug-1999
-	m_outstream.print("\tprivate int yy_rmap[] = unpackFromString(");
+	m_outstream.print("\tprivate static final int yy_rmap[] = unpackFromString(");
 	emit_table_as_string(new int[][] { m_spec.m_row_map });
 	m_outstream.println(")[0];");
 	m_outstream.println();
@@ -1238,7 +1259,7 @@ class CEmit
 	    yy_nxt[elem] = dtrans.m_dtrans;
 	}
 	m_outstream.print
-	  ("\tprivate int yy_nxt[][] = unpackFromString(");
+	  ("\tprivate static final int yy_nxt[][] = unpackFromString(");
 	emit_table_as_string(yy_nxt);
 	m_outstream.println(");");
 	m_outstream.println();
@@ -2838,112 +2859,227 @@ class CMinimize
 
   /***************************************************************
     Function: minimize
-    Description: Removes redundant transition table states.
+    Description: Removes redundant transition table states,
+    by Hopcroft's partition refinement.  States start out
+    grouped by their accepting actions; a group is split by
+    the states with a transition on some character into a
+    splitter group, and each time a group is split, only the
+    smaller half needs to be used as a splitter later (unless
+    the group was still waiting to be one).  The failure
+    transition CDTrans.F goes to an extra state of its own, so
+    no state is ever merged with it.  The final groups are
+    numbered in the order of their lowest-labelled states.
     **************************************************************/
   private void minimize
     (
      )
       {
-	Vector dtrans_group;
-	Vector new_group;
+	int nstates;
+	int ncols;
+	int sink;
+	int elems[];	/* States, each group's contiguous. */
+	int loc[];	/* Where each state is in elems. */
+	int block[];	/* Group of each state. */
+	int first[];	/* Where each group starts in elems, */
+	int end[];	/* and ends. */
+	int marked[];	/* Number of states marked in each group
+			   (they are moved to its front). */
+	int nblocks;
+	int inv_start[]; /* States with a transition on c to t are */
+	int inv_src[];	/* inv_src[inv_start[t*ncols+c]...]. */
+	int work[];	/* Groups waiting to be splitters. */
+	boolean in_work[];
+	int nwork;
+	int splitter[];
+	int touched[];
+	int ntouched;
 	int i;
 	int j;
-	int old_group_count;
-	int group_count;
-	CDTrans next;
-	CDTrans first;
-	int goto_first;
-	int goto_next;
+	int k;
+	int b;
 	int c;
-	int group_size;
-	boolean added;
-
-	init_groups();
+	int x;
+	int t;
+	int size;
+	int largest;
+	CDTrans dtrans;
 
-	group_count = m_group.size();
-	old_group_count = group_count - 1;
+	nstates = m_spec.m_dtrans_vector.size();
+	ncols = m_spec.m_dtrans_ncols;
+	sink = nstates;
 
-	while (old_group_count != group_count)
+	/* Invert the transitions, with F going to the sink (whose
+	   own transitions all go back to it). */
+	inv_start = new int[(nstates + 1) * ncols + 1];
+	inv_src = new int[(nstates + 1) * ncols];
+	for (i = 0; i <= nstates; ++i)
 	  {
-	    old_group_count = group_count;
-
-	    if (CUtility.DEBUG)
+	    for (c = 0; c < ncols; ++c)
 	      {
-		CUtility.ASSERT(m_group.size() == group_count);
+		++inv_start[target(i,c,sink) * ncols + c + 1];
 	      }
+	  }
+	for (k = 0; k < (nstates + 1) * ncols; ++k)
+	  {
+	    inv_start[k + 1] += inv_start[k];
+	  }
+	touched = (int[]) inv_start.clone();
+	for (i = 0; i <= nstates; ++i)
+	  {
+	    for (c = 0; c < ncols; ++c)
+	      {
+		inv_src[touched[target(i,c,sink) * ncols + c]++] = i;
+	      }
+	  }
 
-	    for (i = 0; i < group_count; ++i)
+	/* Initial groups: by accepting action, then the sink. */
+	init_groups();
+	nblocks = m_group.size() + 1;
+	elems = new int[nstates + 1];
+	loc = new int[nstates + 1];
+	block = new int[nstates + 1];
+	first = new int[nstates + 1];
+	end = new int[nstates + 1];
+	marked = new int[nstates + 1];
+	k = 0;
+	for (b = 0; b < nblocks - 1; ++b)
+	  {
+	    first[b] = k;
+	    dtrans_group_states((Vector) m_group.elementAt(b),b,
+				elems,loc,block,k);
+	    k += ((Vector) m_group.elementAt(b)).size();
+	    end[b] = k;
+	  }
+	first[nblocks - 1] = k;
+	elems[k] = sink;
+	loc[sink] = k;
+	block[sink] = nblocks - 1;
+	end[nblocks - 1] = k + 1;
+
+	/* Every group but the largest starts out as a splitter. */
+	work = new int[nstates + 1];
+	in_work = new boolean[nstates + 1];
+	nwork = 0;
+	largest = 0;
+	for (b = 1; b < nblocks; ++b)
+	  {
+	    if (end[b] - first[b] > end[largest] - first[largest])
 	      {
-		dtrans_group = (Vector) m_group.elementAt(i);
+		largest = b;
+	      }
+	  }
+	for (b = 0; b < nblocks; ++b)
+	  {
+	    if (b != largest)
+	      {
+		work[nwork++] = b;
+		in_work[b] = true;
+	      }
+	  }
+
+	splitter = new int[nstates + 1];
+	touched = new int[nstates + 1];
+	while (0 < nwork)
+	  {
+	    b = work[--nwork];
+	    in_work[b] = false;
+	    size = end[b] - first[b];
+	    System.arraycopy(elems,first[b],splitter,0,size);
 
-		group_size = dtrans_group.size();
-		if (group_size <= 1)
+	    for (c = 0; c < ncols; ++c)
+	      {
+		/* Mark the states going into the splitter on c. */
+		ntouched = 0;
+		for (i = 0; i < size; ++i)
 		  {
-		    continue;
+		    t = splitter[i] * ncols + c;
+		    for (k = inv_start[t]; k < inv_start[t + 1]; ++k)
+		      {
+			x = inv_src[k];
+			j = block[x];
+			if (loc[x] < first[j] + marked[j])
+			  {
+			    continue;
+			  }
+			if (0 == marked[j])
+			  {
+			    touched[ntouched++] = j;
+			  }
+			swap(elems,loc,x,elems[first[j] + marked[j]]);
+			++marked[j];
+		      }
 		  }
 
-		new_group = new Vector();
-		added = false;
-		
-		first = (CDTrans) dtrans_group.elementAt(0);
-		for (j = 1; j < group_size; ++j)
+		/* Split each group with some, but not all, marked. */
+		for (i = 0; i < ntouched; ++i)
 		  {
-		    next = (CDTrans) dtrans_group.elementAt(j);
-
-		    for (c = 0; c < m_spec.m_dtrans_ncols; ++c)
+		    j = touched[i];
+		    if (marked[j] == end[j] - first[j])
 		      {
-			goto_first = first.m_dtrans[c];
-			goto_next = next.m_dtrans[c];
-
-			if (goto_first != goto_next
-			    && (goto_first == CDTrans.F
-				|| goto_next == CDTrans.F
-				|| m_ingroup[goto_next] != m_ingroup[goto_first]))
-			  {
-			    if (CUtility.DEBUG)
-			      {
-				CUtility.ASSERT(dtrans_group.elementAt(j) == next);
-			      }
-			    
-			    dtrans_group.removeElementAt(j);
-			    --j;
-			    --group_size;
-			    new_group.addElement(next);
-			    if (false == added)
-			      {
-				added = true;
-				++group_count;
-				m_group.addElement(new_group);
-			      }
-			    m_ingroup[next.m_label] = m_group.size() - 1;
+			marked[j] = 0;
+			continue;
+		      }
 
-			    if (CUtility.DEBUG)
-			      {
-				CUtility.ASSERT(m_group.contains(new_group)
-						== true);
-				CUtility.ASSERT(m_group.contains(dtrans_group)
-						== true);
-				CUtility.ASSERT(dtrans_group.contains(first)
-						== true);
-				CUtility.ASSERT(dtrans_group.contains(next)
-						== false);
-				CUtility.ASSERT(new_group.contains(first)
-						== false);
-				CUtility.ASSERT(new_group.contains(next)
-						== true);
-				CUtility.ASSERT(dtrans_group.size() == group_size);
-				CUtility.ASSERT(i == m_ingroup[first.m_label]);
-				CUtility.ASSERT((m_group.size() - 1) 
-						== m_ingroup[next.m_label]);
-			      }
+		    /* The smaller part becomes the new group. */
+		    if (marked[j] <= end[j] - first[j] - marked[j])
+		      {
+			first[nblocks] = first[j];
+			end[nblocks] = first[j] + marked[j];
+			first[j] = end[nblocks];
+		      }
+		    else
+		      {
+			first[nblocks] = first[j] + marked[j];
+			end[nblocks] = end[j];
+			end[j] = first[nblocks];
+		      }
+		    marked[j] = 0;
+		    for (k = first[nblocks]; k < end[nblocks]; ++k)
+		      {
+			block[elems[k]] = nblocks;
+		      }
 
-			    break;
-			  }
+		    if (in_work[j] 
+			|| end[nblocks] - first[nblocks] < end[j] - first[j])
+		      {
+			work[nwork++] = nblocks;
+			in_work[nblocks] = true;
+		      }
+		    else
+		      {
+			work[nwork++] = j;
+			in_work[j] = true;
 		      }
+		    ++nblocks;
 		  }
 	      }
 	  }
 
+	/* Number the groups by their lowest-labelled states. */
+	m_group = new Vector();
+	for (i = 0; i <= nstates; ++i)
+	  {
+	    loc[i] = -1;
+	  }
+	for (i = 0; i < nstates; ++i)
+	  {
+	    b = block[i];
+	    if (-1 == loc[b])
+	      {
+		loc[b] = m_group.size();
+		m_group.addElement(new Vector());
+	      }
+	    m_ingroup[i] = loc[b];
+	    dtrans = (CDTrans) m_spec.m_dtrans_vector.elementAt(i);
+	    ((Vector) m_group.elementAt(loc[b])).addElement(dtrans);
+	  }
+
+	if (CUtility.DEBUG)
+	  {
+	    CUtility.ASSERT(-1 == loc[block[sink]]);
+	    check_groups();
+	  }
+
 	System.out.println(m_group.size() + " states after removal of redundant states.");
 
 	if (m_spec.m_verbose
@@ -2958,92 +3094,176 @@ class CMinimize
       }
 
   /***************************************************************
-    Function: init_groups
-    Description:
+    Function: target
+    Description: Returns the state reached from state i on
+    character class c, with the sink standing for CDTrans.F.
     **************************************************************/
-  private void init_groups
+  private int target
+    (
+     int i,
+     int c,
+     int sink
+     )
+      {
+	int next;
+
+	if (sink == i)
+	  {
+	    return sink;
+	  }
+	next = ((CDTrans) m_spec.m_dtrans_vector.elementAt(i)).m_dtrans[c];
+	return (CDTrans.F == next) ? sink : next;
+      }
+
+  /***************************************************************
+    Function: dtrans_group_states
+    Description: Lays out the states of an initial group in
+    elems, from index k.
+    **************************************************************/
+  private void dtrans_group_states
+    (
+     Vector dtrans_group,
+     int b,
+     int elems[],
+     int loc[],
+     int block[],
+     int k
+     )
+      {
+	int i;
+	int size;
+	int label;
+
+	size = dtrans_group.size();
+	for (i = 0; i < size; ++i)
+	  {
+	    label = ((CDTrans) dtrans_group.elementAt(i)).m_label;
+	    elems[k + i] = label;
+	    loc[label] = k + i;
+	    block[label] = b;
+	  }
+      }
+
+  /***************************************************************
+    Function: swap
+    Description: Swaps states x and y in elems.
+    **************************************************************/
+  private void swap
+    (
+     int elems[],
+     int loc[],
+     int x,
+     int y
+     )
+      {
+	int lx;
+
+	lx = loc[x];
+	elems[loc[y]] = x;
+	elems[lx] = y;
+	loc[x] = loc[y];
+	loc[y] = lx;
+      }
+
+  /***************************************************************
+    Function: check_groups
+    Description: Debugging check that the groups are stable:
+    the states of each group have the same accepting action,
+    and go to the same groups (or to F) on each character.
+    **************************************************************/
+  private void check_groups
     (
      )
       {
 	int i;
 	int j;
-	int group_count;
+	int c;
 	int size;
-	CAccept accept;
-	CDTrans dtrans;
 	Vector dtrans_group;
 	CDTrans first;
-	boolean group_found;
+	CDTrans next;
+
+	for (i = 0; i < m_group.size(); ++i)
+	  {
+	    dtrans_group = (Vector) m_group.elementAt(i);
+	    first = (CDTrans) dtrans_group.elementAt(0);
+	    size = dtrans_group.size();
+	    for (j = 1; j < size; ++j)
+	      {
+		next = (CDTrans) dtrans_group.elementAt(j);
+		CUtility.ASSERT(first.m_accept == next.m_accept);
+		for (c = 0; c < m_spec.m_dtrans_ncols; ++c)
+		  {
+		    CUtility.ASSERT((CDTrans.F == first.m_dtrans[c])
+				    == (CDTrans.F == next.m_dtrans[c]));
+		    CUtility.ASSERT(CDTrans.F == first.m_dtrans[c]
+				    || m_ingroup[first.m_dtrans[c]]
+				       == m_ingroup[next.m_dtrans[c]]);
+		  }
+	      }
+	  }
+      }
+
+  /***************************************************************
+    Function: init_groups
+    Description: Groups the states by their accepting actions
+    (the groups in the order of their first states), looking
+    each action's group up in a Hashtable.
+    **************************************************************/
+  private void init_groups
+    (
+     )
+      {
+	int i;
+	int size;
+	int group;
+	Hashtable accept_group;
+	int no_accept_group;
+	CDTrans dtrans;
+	Integer found;
 
 	m_group = new Vector();
-	group_count = 0;
-	
+	accept_group = new Hashtable();
+	no_accept_group = -1;
+
 	size = m_spec.m_dtrans_vector.size();
 	m_ingroup = new int[size];
 	
 	for (i = 0; i < size; ++i)
 	  {
-	    group_found = false;
 	    dtrans = (CDTrans) m_spec.m_dtrans_vector.elementAt(i);
 
 	    if (CUtility.DEBUG)
 	      {
 		CUtility.ASSERT(i == dtrans.m_label);
-		CUtility.ASSERT(false == group_found);
-		CUtility.ASSERT(group_count == m_group.size());
 	      }
-	    
-	    for (j = 0; j < group_count; ++j)
+
+	    if (null == dtrans.m_accept)
 	      {
-		dtrans_group = (Vector) m_group.elementAt(j);
-		
-		if (CUtility.DEBUG)
-		  {
-		    CUtility.ASSERT(false == group_found);
-		    CUtility.ASSERT(0 < dtrans_group.size());
-		  }
+		group = no_accept_group;
+	      }
+	    else
+	      {
+		found = (Integer) accept_group.get(dtrans.m_accept);
+		group = (null == found) ? -1 : found.intValue();
+	      }
 
-		first = (CDTrans) dtrans_group.elementAt(0);
-		
-		if (CUtility.SLOW_DEBUG)
+	    if (-1 == group)
+	      {
+		group = m_group.size();
+		m_group.addElement(new Vector());
+		if (null == dtrans.m_accept)
 		  {
-		    CDTrans check;
-		    int k;
-		    int s;
-
-		    s = dtrans_group.size();
-		    CUtility.ASSERT(0 < s);
-
-		    for (k = 1; k < s; ++k)
-		      {
-			check = (CDTrans) dtrans_group.elementAt(k);
-			CUtility.ASSERT(check.m_accept == first.m_accept);
-		      }
+		    no_accept_group = group;
 		  }
-
-		if (first.m_accept == dtrans.m_accept)
+		else
 		  {
-		    dtrans_group.addElement(dtrans);
-		    m_ingroup[i] = j;
-		    group_found = true;
-		    
-		    if (CUtility.DEBUG)
-		      {
-			CUtility.ASSERT(j == m_ingroup[dtrans.m_label]);
-		      }
-
-		    break;
+		    accept_group.put(dtrans.m_accept,new Integer(group));
 		  }
 	      }
-	    
-	    if (false == group_found)
-	      {
-		dtrans_group = new Vector();
-		dtrans_group.addElement(dtrans);
-		m_ingroup[i] = m_group.size();
-		m_group.addElement(dtrans_group);
-		++group_count;
-	      }
+
+	    ((Vector) m_group.elementAt(group)).addElement(dtrans);
+	    m_ingroup[i] = group;
 	  }
 	
 	if (m_spec.m_verbose
@@ -3117,6 +3337,12 @@ class CNfa2Dfa
   private CSpec m_spec;
   private int m_unmarked_dfa;
   private CLexGen m_lexGen;
+  private CNfa m_nfa_by_label[]; /* NFA states, indexed by label. */
+  private SparseBitSet m_closure[]; /* Epsilon-closure of each NFA
+				       state, indexed by label (null
+				       until it is needed). */
+  private CNfa m_closure_accept[]; /* Accepting state with the lowest
+				      label in each closure, or null. */
 
   /***************************************************************
     Constants
@@ -3143,9 +3369,23 @@ class CNfa2Dfa
      CSpec spec
      )
       {
+	int i;
+	int size;
+	CNfa nfa;
+
 	m_lexGen = lexGen;
 	m_spec = spec;
 	m_unmarked_dfa = 0;
+
+	size = m_spec.m_nfa_states.size();
+	m_nfa_by_label = new CNfa[size];
+	m_closure = new SparseBitSet[size];
+	m_closure_accept = new CNfa[size];
+	for (i = 0; i < size; ++i)
+	  {
+	    nfa = (CNfa) m_spec.m_nfa_states.elementAt(i);
+	    m_nfa_by_label[nfa.m_label] = nfa;
+	  }
       }
 
   /***************************************************************
@@ -3159,6 +3399,9 @@ class CNfa2Dfa
 	m_lexGen = null;
 	m_spec = null;
 	m_unmarked_dfa = 0;
+	m_nfa_by_label = null;
+	m_closure = null;
+	m_closure_accept = null;
       }
 
   /***************************************************************
@@ -3207,6 +3450,7 @@ class CNfa2Dfa
 	CNfa nfa;
 	int istate;
 	int nstates;
+	Vector moves[];
 	
 	System.out.print("Working on DFA states.");
 
@@ -3273,6 +3517,9 @@ class CNfa2Dfa
 		dtrans.m_accept = dfa.m_accept;
 		dtrans.m_anchor = dfa.m_anchor;
 		
+		/* Attempt every character transition at once. */
+		moves = move(dfa.m_nfa_set);
+
 		/* Set CDTrans array for each character transition. */
 		for (i = 0; i < m_spec.m_dtrans_ncols; ++i)
 		  {
@@ -3282,8 +3529,9 @@ class CNfa2Dfa
 			CUtility.ASSERT(m_spec.m_dtrans_ncols > i);
 		      }
 		    
-		    /* Create new dfa set by attempting character transition. */
-		    move(dfa.m_nfa_set,dfa.m_nfa_bit,i,bunch);
+		    /* Create new dfa set from the character transition. */
+		    bunch.m_nfa_set = moves[i];
+		    bunch.m_nfa_bit = null;
 		    if (null != bunch.m_nfa_set)
 		      {
 			e_closure(bunch);
@@ -3360,189 +3608,197 @@ class CNfa2Dfa
 
   /***************************************************************
     Function: e_closure
-    Description: Alters and returns input set.
+    Description: Alters and returns input set.  The closure
+    of the set is the union of the (cached) closures of its
+    states, and its accepting state is the one with the lowest
+    label among theirs; the NFA states are left in label order.
     **************************************************************/
   private void e_closure
     (
      CBunch bunch
      )
       {
-	Stack nfa_stack;
+	SparseBitSet bits;
+	CNfa accept;
+	CNfa state;
 	int size;
 	int i;
-	CNfa state;
+	Enumeration labels;
 
 	/* Debug checks. */
 	if (CUtility.DEBUG)
 	  {
 	    CUtility.ASSERT(null != bunch);
 	    CUtility.ASSERT(null != bunch.m_nfa_set);
-	    CUtility.ASSERT(null != bunch.m_nfa_bit);
 	  }
 
-	bunch.m_accept = null;
-	bunch.m_anchor = CSpec.NONE;
-	bunch.m_accept_index = CUtility.INT_MAX;
-	
-	/* Create initial stack. */
-	nfa_stack = new Stack();
+	bits = new SparseBitSet();
+	accept = null;
 	size = bunch.m_nfa_set.size();
 	for (i = 0; i < size; ++i)
 	  {
 	    state = (CNfa) bunch.m_nfa_set.elementAt(i);
-	    
+	    bits.or(closure(state));
+
+	    if (null != m_closure_accept[state.m_label]
+		&& (null == accept
+		    || m_closure_accept[state.m_label].m_label < accept.m_label))
+	      {
+		accept = m_closure_accept[state.m_label];
+	      }
+	  }
+
+	bunch.m_nfa_bit = bits;
+	bunch.m_nfa_set = new Vector();
+	for (labels = bits.elements(); labels.hasMoreElements(); )
+	  {
+	    i = ((Integer) labels.nextElement()).intValue();
+	    bunch.m_nfa_set.addElement(m_nfa_by_label[i]);
+	  }
+
+	if (null == accept)
+	  {
+	    bunch.m_accept = null;
+	    bunch.m_anchor = CSpec.NONE;
+	    bunch.m_accept_index = CUtility.INT_MAX;
+	  }
+	else
+	  {
+	    bunch.m_accept = accept.m_accept;
+	    bunch.m_anchor = accept.m_anchor;
+	    bunch.m_accept_index = accept.m_label;
+
 	    if (CUtility.DEBUG)
 	      {
-		CUtility.ASSERT(bunch.m_nfa_bit.get(state.m_label));
+		CUtility.ASSERT(null != bunch.m_accept);
+		CUtility.ASSERT(CSpec.NONE == bunch.m_anchor
+				|| 0 != (bunch.m_anchor & CSpec.END)
+				|| 0 != (bunch.m_anchor & CSpec.START));
 	      }
+	  }
 
-	    nfa_stack.push(state);
+	return;
+      }
+
+  /***************************************************************
+    Function: closure
+    Description: Returns the epsilon-closure of a single NFA
+    state (as a set of labels), computing it the first time it
+    is asked for, along with its lowest-labelled accepting state.
+    **************************************************************/
+  private SparseBitSet closure
+    (
+     CNfa start
+     )
+      {
+	SparseBitSet bits;
+	CNfa accept;
+	Stack nfa_stack;
+	CNfa state;
+
+	bits = m_closure[start.m_label];
+	if (null != bits)
+	  {
+	    return bits;
 	  }
 
-	/* Main loop. */
+	bits = new SparseBitSet();
+	accept = null;
+	nfa_stack = new Stack();
+	bits.set(start.m_label);
+	nfa_stack.push(start);
+
 	while (false == nfa_stack.empty())
 	  {
 	    state = (CNfa) nfa_stack.pop();
-	    
-	    if (CUtility.OLD_DUMP_DEBUG)
-	      {
-		if (null != state.m_accept)
-		  {
-		    System.out.println("Looking at accepting state " + state.m_label
-				       + " with <"
-				       + (new String(state.m_accept.m_action,0,
-						     state.m_accept.m_action_read))
-				       + ">");
-		  }
-	      }
 
 	    if (null != state.m_accept 
-		&& state.m_label < bunch.m_accept_index)
+		&& (null == accept || state.m_label < accept.m_label))
 	      {
-		bunch.m_accept_index = state.m_label;
-		bunch.m_accept = state.m_accept;
-		bunch.m_anchor = state.m_anchor;
-
-		if (CUtility.OLD_DUMP_DEBUG)
-		  {
-		    System.out.println("Found accepting state " + state.m_label
-				       + " with <"
-				       + (new String(state.m_accept.m_action,0,
-						     state.m_accept.m_action_read))
-				       + ">");
-		  }
-
-		if (CUtility.DEBUG)
-		  {
-		    CUtility.ASSERT(null != bunch.m_accept);
-		    CUtility.ASSERT(CSpec.NONE == bunch.m_anchor
-				    || 0 != (bunch.m_anchor & CSpec.END)
-				    || 0 != (bunch.m_anchor & CSpec.START));
-		  }
+		accept = state;
 	      }
 
 	    if (CNfa.EPSILON == state.m_edge)
 	      {
-		if (null != state.m_next)
+		if (null != state.m_next
+		    && false == bits.get(state.m_next.m_label))
 		  {
-		    if (false == bunch.m_nfa_set.contains(state.m_next))
-		      {
-			if (CUtility.DEBUG)
-			  {
-			    CUtility.ASSERT(false == bunch.m_nfa_bit.get(state.m_next.m_label));
-			  }
-			
-			bunch.m_nfa_bit.set(state.m_next.m_label);
-			bunch.m_nfa_set.addElement(state.m_next);
-			nfa_stack.push(state.m_next);
-		      }
+		    bits.set(state.m_next.m_label);
+		    nfa_stack.push(state.m_next);
 		  }
 
-		if (null != state.m_next2)
+		if (null != state.m_next2
+		    && false == bits.get(state.m_next2.m_label))
 		  {
-		    if (false == bunch.m_nfa_set.contains(state.m_next2))
-		      {
-			if (CUtility.DEBUG)
-			  {
-			    CUtility.ASSERT(false == bunch.m_nfa_bit.get(state.m_next2.m_label));
-			  }
-			
-			bunch.m_nfa_bit.set(state.m_next2.m_label);
-			bunch.m_nfa_set.addElement(state.m_next2);
-			nfa_stack.push(state.m_next2);
-		      }
+		    bits.set(state.m_next2.m_label);
+		    nfa_stack.push(state.m_next2);
 		  }
 	      }
 	  }
 
-	if (null != bunch.m_nfa_set)
-	  {
-	    sortStates(bunch.m_nfa_set);
-	  }
-
-	return;
+	m_closure[start.m_label] = bits;
+	m_closure_accept[start.m_label] = accept;
+	return bits;
       }
 
   /***************************************************************
     Function: move
-    Description: Returns null if resulting NFA set is empty.
+    Description: Returns, for each character class, the NFA
+    states reached from the given set on it (in one pass over
+    the set), or null where there are none.
     **************************************************************/
-  void move
+  private Vector[] move
     (
-     Vector nfa_set,
-     SparseBitSet nfa_bit,
-     int b,
-     CBunch bunch
+     Vector nfa_set
      )
       {
+	Vector moves[];
 	int size;
 	int index;
+	int b;
 	CNfa state;
 	
-	bunch.m_nfa_set = null;
-	bunch.m_nfa_bit = null;
-
+	moves = new Vector[m_spec.m_dtrans_ncols];
 	size = nfa_set.size();
 	for (index = 0; index < size; ++index)
 	  {
 	    state = (CNfa) nfa_set.elementAt(index);
 	    
-	    if (b == state.m_edge
-		|| (CNfa.CCL == state.m_edge
-		    && true == state.m_set.contains(b)))
+	    if (CNfa.CCL == state.m_edge)
 	      {
-		if (null == bunch.m_nfa_set)
+		for (b = 0; b < m_spec.m_dtrans_ncols; ++b)
 		  {
-		    if (CUtility.DEBUG)
+		    if (state.m_set.contains(b))
 		      {
-			CUtility.ASSERT(null == bunch.m_nfa_bit);
+			add_move(moves,b,state.m_next);
 		      }
-		    
-		    bunch.m_nfa_set = new Vector();
-		    /*bunch.m_nfa_bit 
-			= new SparseBitSet(m_spec.m_nfa_states.size());*/
-		    bunch.m_nfa_bit = new SparseBitSet();
 		  }
-
-		bunch.m_nfa_set.addElement(state.m_next);
-		/*System.out.println("Size of bitset: " + bunch.m_nfa_bit.size());
-		System.out.println("Reference index: " + state.m_next.m_label);
-		System.out.flush();*/
-		bunch.m_nfa_bit.set(state.m_next.m_label);
 	      }
-	  }
-	
-	if (null != bunch.m_nfa_set)
-	  {
-	    if (CUtility.DEBUG)
+	    else if (0 <= state.m_edge 
+		     && state.m_edge < m_spec.m_dtrans_ncols)
 	      {
-		CUtility.ASSERT(null != bunch.m_nfa_bit);
+		add_move(moves,state.m_edge,state.m_next);
 	      }
-	    
-	    sortStates(bunch.m_nfa_set);
 	  }
+	
+	return moves;
+      }
 
-	return;
+  /***************************************************************
+    Function: add_move
+    **************************************************************/
+  private void add_move
+    (
+     Vector moves[],
+     int b,
+     CNfa next
+     )
+      {
+	if (null == moves[b])
+	  {
+	    moves[b] = new Vector();
+	  }
+	moves[b].addElement(next);
       }
 
   /***************************************************************
@@ -7654,12 +7910,16 @@ final class SparseBitSet implements Cloneable {
     }
 
     /**
-     * Gets the hashcode.
+     * Gets the hashcode.  Every nonzero block counts (block 0 used
+     * to be multiplied by its offset, 0, so sets differing only in
+     * bits 0-63 all collided); empty blocks are skipped, as equals
+     * ignores them.
      */
     public int hashCode() {
 	long h = 1234;
 	for (int i=0; i<size; i++)
-	    h ^= bits[i] * offs[i];
+	    if (bits[i] != 0)
+		h = 31 * (31 * h + offs[i]) + bits[i];
 	return (int)((h >> 32) ^ h);
     }
 